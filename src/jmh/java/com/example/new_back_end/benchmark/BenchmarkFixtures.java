@@ -0,0 +1,44 @@
+package com.example.new_back_end.benchmark;
+
+import com.example.new_back_end.dto.ResponseDTO;
+import com.example.new_back_end.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 공용 테스트 데이터
+ */
+final class BenchmarkFixtures {
+
+    private static final String CONTENT = "게시글 본문입니다. ".repeat(50);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Post post(long id) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("벤치마크 게시글 제목 " + id);
+        post.setContent(CONTENT);
+        post.setAuthor("author" + (id % 100));
+        post.setCreatedDate(LocalDateTime.of(2025, 1, 1, 12, 0).plusSeconds(id));
+        post.setUpdatedDate(LocalDateTime.of(2025, 1, 2, 12, 0).plusSeconds(id));
+        post.setViewCount((int) (id * 7 % 1000));
+        post.setVersion(0L);
+        return post;
+    }
+
+    static ResponseDTO responseDTO(long id) {
+        Post post = post(id);
+        ResponseDTO dto = new ResponseDTO();
+        dto.setId(post.getId());
+        dto.setTitle(post.getTitle());
+        dto.setContent(post.getContent());
+        dto.setAuthor(post.getAuthor());
+        dto.setCreatedDate(post.getCreatedDate());
+        dto.setUpdatedDate(post.getUpdatedDate());
+        dto.setViewCount(post.getViewCount());
+        dto.setVersion(post.getVersion());
+        return dto;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.new_back_end.benchmark;
+
+import com.example.new_back_end.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 벤치마크
+ * - warm: 같은 토큰 반복 검증 (검증 결과 캐시 적중)
+ * - cold: 캐시 크기 1 + 서로 다른 토큰 순환 (매번 서명 검증/파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "mySecretKey1234567890abcdefghijklmnopqrstuvwxyz";
+    static final long EXPIRATION = 86_400_000L;
+
+    private static final int COLD_TOKENS = 1024;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+    private String[] coldTokens;
+    private int coldIndex;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, 100_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, 1);
+        token = jwtUtil.generateToken("benchmark");
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = jwtUtil.generateToken("user" + i);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("benchmark");
+    }
+
+    @Benchmark
+    public String getUsernameFromTokenWarm() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenWarm() {
+        return jwtUtil.validateToken(token, "benchmark");
+    }
+
+    @Benchmark
+    public String getUsernameFromTokenCold() {
+        return uncachedJwtUtil.getUsernameFromToken(nextColdToken());
+    }
+
+    @Benchmark
+    public boolean validateTokenCold() {
+        int index = coldIndex;
+        coldIndex = (index + 1) % COLD_TOKENS;
+        return uncachedJwtUtil.validateToken(coldTokens[index], "user" + index);
+    }
+
+    private String nextColdToken() {
+        String next = coldTokens[coldIndex];
+        coldIndex = (coldIndex + 1) % COLD_TOKENS;
+        return next;
+    }
+}
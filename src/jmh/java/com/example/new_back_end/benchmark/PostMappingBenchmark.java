@@ -0,0 +1,63 @@
+package com.example.new_back_end.benchmark;
+
+import com.example.new_back_end.dto.RequestDTO;
+import com.example.new_back_end.dto.ResponseDTO;
+import com.example.new_back_end.entity.Post;
+import com.example.new_back_end.service.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostService.toDTO / toEntity 매핑 비용
+ * - 매핑 메서드는 협력 객체를 사용하지 않으므로 생성자 인자를 모두 null 로 채워 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostMappingBenchmark {
+
+    private PostService postService;
+    private Post post;
+    private RequestDTO requestDTO;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        postService = newPostServiceWithoutCollaborators();
+
+        post = BenchmarkFixtures.post(1L);
+
+        requestDTO = new RequestDTO();
+        requestDTO.setTitle(post.getTitle());
+        requestDTO.setContent(post.getContent());
+        requestDTO.setAuthor(post.getAuthor());
+    }
+
+    @Benchmark
+    public ResponseDTO toDTO() {
+        return postService.toDTO(post);
+    }
+
+    @Benchmark
+    public Post toEntity() {
+        return postService.toEntity(requestDTO);
+    }
+
+    private static PostService newPostServiceWithoutCollaborators() throws ReflectiveOperationException {
+        Constructor<?> constructor = PostService.class.getDeclaredConstructors()[0];
+        return (PostService) constructor.newInstance(new Object[constructor.getParameterCount()]);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.new_back_end.benchmark;
+
+import com.example.new_back_end.dto.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List<ResponseDTO> 의 Jackson 직렬화 비용 (목록 응답 크기별)
+ * - Spring Boot 기본 설정과 같은 방식(Jackson2ObjectMapperBuilder)으로 ObjectMapper 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<ResponseDTO> responses;
+
+    @Setup
+    public void setup() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(BenchmarkFixtures.responseDTO(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+}
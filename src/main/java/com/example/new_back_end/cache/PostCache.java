@@ -0,0 +1,155 @@
+package com.example.new_back_end.cache;
+
+import com.example.new_back_end.dto.CacheStatsDTO;
+import com.example.new_back_end.entity.Post;
+import com.example.new_back_end.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단일 게시글 read-through 캐시 (Caffeine, W-TinyLFU 기반 크기 제한)
+ * - 최대 건수와 TTL(expireAfterWrite)로 메모리 사용량을 제한
+ * - 같은 키의 동시 미스는 한 번만 로딩(single-flight)하여 DB 요청 폭주를 막음
+ * - refreshAfterWrite 이후 접근 시 기존 값을 응답하면서 백그라운드에서 한 번만 재로딩
+ * - 캐시에 저장된 Post 는 공유 객체이므로 절대 직접 수정하지 않음
+ * - 재로딩은 두 모드 모두 요청 스레드가 아닌 실행기(플랫폼: ForkJoinPool 공용 풀, 가상: 태스크 실행기)에서 수행
+ * - 최초 로딩은 플랫폼 스레드 모드에서는 호출 스레드에서 바로 수행하고, 가상 스레드 모드에서는 별도 가상 스레드에서 수행하여
+ *   로딩 중 ConcurrentHashMap 의 synchronized 구간에서 요청 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 함
+ * - 조회수 flush 로 항목을 교체하지 않음 (교체하면 expireAfterWrite/refreshAfterWrite 타이머가 초기화되어
+ *   자주 조회되는 게시글이 만료/재로딩되지 않음), 로딩 이후 flush 된 증가분은 항목별 카운터에 따로 누적하여 응답 시 더함
+ */
+@Component
+public class PostCache {
+
+    /**
+     * 캐시 항목
+     * @param loadedAt 로딩(DB 조회) 완료 시각 (System.nanoTime)
+     * @param flushedViews 로딩 이후 DB 에 반영된 조회수 증가분 (로딩한 값에는 포함되지 않은 증가분)
+     */
+    private record Entry(Post post, long loadedAt, LongAdder flushedViews) {
+    }
+
+    private final AsyncLoadingCache<Long, Entry> asyncCache;
+    private final LoadingCache<Long, Entry> cache;
+
+    public PostCache(PostRepository postRepository,
+                     MeterRegistry meterRegistry,
+                     @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                     @Value("${post.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${post.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                     @Value("${post.cache.refresh-after-write:1m}") Duration refreshAfterWrite) {
+        // 재로딩(과 가상 스레드 모드의 최초 로딩)을 수행할 실행기
+        Executor loaderExecutor = virtualThreads ? applicationTaskExecutor : ForkJoinPool.commonPool();
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .executor(loaderExecutor)
+                .recordStats()
+                .buildAsync(new AsyncCacheLoader<Long, Entry>() {
+                    // 최초 로딩 - 플랫폼 스레드 모드: 호출 스레드 / 가상 스레드 모드: 실행기
+                    @Override
+                    public CompletableFuture<Entry> asyncLoad(Long id, Executor executor) {
+                        if (virtualThreads) {
+                            return CompletableFuture.supplyAsync(() -> load(postRepository, id), executor);
+                        }
+                        try {
+                            return CompletableFuture.completedFuture(load(postRepository, id));
+                        } catch (RuntimeException e) {
+                            return CompletableFuture.failedFuture(e);
+                        }
+                    }
+
+                    // refreshAfterWrite 재로딩 - 항상 실행기에서 (요청 스레드는 기존 값을 바로 응답)
+                    @Override
+                    public CompletableFuture<Entry> asyncReload(Long id, Entry oldValue, Executor executor) {
+                        return CompletableFuture.supplyAsync(() -> load(postRepository, id), executor);
+                    }
+                });
+        this.cache = asyncCache.synchronous();
+        // /actuator/metrics/cache.gets?tag=cache:post 등으로도 조회 가능
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post");
+    }
+
+    // 존재하지 않는 게시글은 null 을 반환하여 캐시에 저장하지 않음
+    private static Entry load(PostRepository postRepository, Long id) {
+        return postRepository.findById(id)
+                .map(post -> new Entry(post, System.nanoTime(), new LongAdder()))
+                .orElse(null);
+    }
+
+    // 게시글 조회 (캐시 미스 시 DB 에서 로딩), 없으면 null
+    public Post get(Long id) {
+        try {
+            // 로딩 완료를 기다리는 동안 잠금을 잡고 있지 않음
+            Entry entry = asyncCache.get(id).join();
+            return entry == null ? null : entry.post();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 캐시에 있는 경우에만 반환 (DB 조회 없음), 없으면 null
+    public Post getIfPresent(Long id) {
+        Entry entry = cache.getIfPresent(id);
+        return entry == null ? null : entry.post();
+    }
+
+    // 수정/삭제 시 캐시 무효화
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * 조회수 flush 후 캐시된 게시글에 반영된 증가분 기록 (항목은 교체하지 않음)
+     * flush 시작 전에 로딩이 끝난 항목에만 더하고, flush 와 겹쳐 로딩된 항목은 이미 포함했을 수 있으므로
+     * 더하지 않음 (두 번 세지 않도록 하며, 빠진 증가분은 다음 재로딩 때 반영됨)
+     * @param flushStartedAt 배치 UPDATE 시작 시각 (System.nanoTime)
+     */
+    public void viewsFlushed(Long id, long delta, long flushStartedAt) {
+        Entry entry = cache.asMap().get(id);
+        if (entry != null && entry.loadedAt() - flushStartedAt < 0) {
+            entry.flushedViews().add(delta);
+        }
+    }
+
+    // get/getIfPresent 로 받은 게시글이 로딩된 이후 DB 에 반영된 조회수 증가분 (항목이 교체되었으면 0)
+    public long flushedViews(Long id, Post post) {
+        Entry entry = cache.asMap().get(id);
+        return entry != null && entry.post() == post ? entry.flushedViews().sum() : 0;
+    }
+
+    // 캐시 통계 (크기 조정용)
+    public CacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setEstimatedSize(cache.estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setLoadSuccessCount(stats.loadSuccessCount());
+        dto.setLoadFailureCount(stats.loadFailureCount());
+        dto.setAverageLoadPenaltyNanos(stats.averageLoadPenalty());
+        return dto;
+    }
+}
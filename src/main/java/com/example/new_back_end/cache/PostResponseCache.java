@@ -0,0 +1,119 @@
+package com.example.new_back_end.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 단일 게시글 응답 바이트 캐시 (직렬화된 JSON + gzip 압축본)
+ * - 인기 게시글 조회 시 toDTO 매핑, Jackson 직렬화, gzip 압축 비용을 매번 치르지 않도록 완성된 응답 본문을 보관
+ * - 메모리 사용량은 건수가 아니라 바이트(maximumWeight)로 제한
+ * - 응답에 조회수가 포함되므로 TTL 을 짧게 두어 조회수가 뒤처지는 시간을 제한하고, 수정/삭제 시에는 즉시 무효화
+ * - 미스 시 직렬화(게시글 캐시 로딩 포함)는 PostCache 와 같은 방식으로 수행 (플랫폼 스레드 모드: 호출 스레드,
+ *   가상 스레드 모드: 태스크 실행기) - 가상 스레드가 ConcurrentHashMap 의 synchronized 구간에서 DB 로딩을 기다리며
+ *   캐리어 스레드에 고정(pinning)되지 않도록 함
+ */
+@Component
+public class PostResponseCache {
+
+    /**
+     * 캐시된 응답 본문
+     * @param json 직렬화된 JSON
+     * @param gzip gzip 압축본 (min-gzip-size 미만이면 압축 이득이 없으므로 null)
+     */
+    public record CachedBody(byte[] json, byte[] gzip) {
+    }
+
+    private final AsyncCache<Long, CachedBody> asyncCache;
+    private final Cache<Long, CachedBody> cache;
+    private final int minGzipSize;
+    private final boolean virtualThreads;
+
+    public PostResponseCache(MeterRegistry meterRegistry,
+                             @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             @Value("${post.response-cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${post.response-cache.expire-after-write:2s}") Duration expireAfterWrite,
+                             @Value("${post.response-cache.min-gzip-size:1KB}") DataSize minGzipSize) {
+        this.minGzipSize = (int) minGzipSize.toBytes();
+        this.virtualThreads = virtualThreads;
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, CachedBody body) -> weightOf(body))
+                .expireAfterWrite(expireAfterWrite)
+                .executor(virtualThreads ? applicationTaskExecutor : ForkJoinPool.commonPool())
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post-response");
+    }
+
+    // 캐시된 응답 본문 조회, 미스 시 serializer 로 JSON 을 만들어 압축본과 함께 저장 (게시글이 없으면 null)
+    public CachedBody get(Long id, Function<Long, byte[]> serializer) {
+        CompletableFuture<CachedBody> future = asyncCache.get(id, (key, executor) -> {
+            if (virtualThreads) {
+                return CompletableFuture.supplyAsync(() -> render(key, serializer), executor);
+            }
+            try {
+                return CompletableFuture.completedFuture(render(key, serializer));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        try {
+            // 직렬화 완료를 기다리는 동안 잠금을 잡고 있지 않음
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedBody render(Long id, Function<Long, byte[]> serializer) {
+        byte[] json = serializer.apply(id);
+        if (json == null) {
+            return null;
+        }
+        return new CachedBody(json, json.length >= minGzipSize ? gzip(json) : null);
+    }
+
+    // 수정/삭제 시 캐시 무효화
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    private static int weightOf(CachedBody body) {
+        long weight = (long) body.json().length + (body.gzip() != null ? body.gzip().length : 0);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(source.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            // 메모리 버퍼에 쓰므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
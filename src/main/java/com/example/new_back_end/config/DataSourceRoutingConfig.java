@@ -0,0 +1,95 @@
+package com.example.new_back_end.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 (datasource.routing.enabled=true 일 때만)
+ * - @Transactional(readOnly = true) 트랜잭션은 레플리카, 그 외는 주 DB
+ *   (LazyConnectionDataSourceProxy 가 첫 쿼리 시점까지 커넥션 획득을 미루고, 커넥션의 readOnly 여부로 대상을 선택)
+ * - 한 요청에서 주 DB 를 사용한 뒤의 읽기는 주 DB 로 고정 (read-after-write)
+ * - 비활성화 시에는 JdbcDataSourceConfig 의 DataSource 를 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    // 주 DB 커넥션 풀 (spring.datasource.*, spring.datasource.hikari.*)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 레플리카 커넥션 풀 (레플리카가 내려가 있어도 애플리케이션은 시작되도록 풀 초기화 시 연결하지 않음)
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               DataSourceProperties properties,
+                                               DataSourceRoutingProperties routingProperties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routingProperties.getReplicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+        return new ReplicaDataSource(replicas, primaryDataSource, routingProperties.getFailureCooldown().toNanos());
+    }
+
+    // 애플리케이션(JPA, JdbcTemplate)이 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(new PinningDataSource(primaryDataSource));
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    @Bean
+    public FilterRegistrationBean<PrimaryPinFilter> primaryPinFilter() {
+        FilterRegistrationBean<PrimaryPinFilter> registration = new FilterRegistrationBean<>(new PrimaryPinFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // 주 DB 커넥션을 사용하면 현재 요청을 주 DB 에 고정
+    private static final class PinningDataSource extends DelegatingDataSource {
+
+        PinningDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            PrimaryPin.pin();
+            return super.getConnection();
+        }
+    }
+}
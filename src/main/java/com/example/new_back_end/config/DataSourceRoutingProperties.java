@@ -0,0 +1,38 @@
+package com.example.new_back_end.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 레플리카 라우팅 설정 (datasource.routing.*)
+ * - 주 DB 는 기존 spring.datasource.* 설정을 그대로 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    // 커넥션 획득에 실패한 레플리카를 라운드 로빈에서 제외하는 시간
+    private Duration failureCooldown = Duration.ofSeconds(30);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Replica {
+        private String url;
+        private String username;                    // 생략 시 spring.datasource.username
+        private String password;                    // 생략 시 spring.datasource.password
+        private int maximumPoolSize = 10;
+        private Duration connectionTimeout = Duration.ofSeconds(1);   // 장애 시 빠르게 다음 레플리카로 넘어가도록 짧게
+    }
+}
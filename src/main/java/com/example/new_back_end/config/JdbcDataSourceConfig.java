@@ -0,0 +1,34 @@
+package com.example.new_back_end.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * JDBC DataSource 설정 (JPA, Flyway, JdbcTemplate 용)
+ * - R2DBC ConnectionFactory 가 있으면 스프링 부트의 DataSourceAutoConfiguration 이 동작하지 않으므로
+ *   (ConditionalOnMissingBean(ConnectionFactory)) spring.datasource.* 설정과 DataSource 를 직접 등록
+ * - 읽기/쓰기 라우팅이 켜져 있으면 DataSource 는 DataSourceRoutingConfig 가 등록
+ */
+@Configuration
+public class JdbcDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    // 주 DB 커넥션 풀 (spring.datasource.*, spring.datasource.hikari.*)
+    @Bean
+    @ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -1,31 +1,61 @@
 package com.example.new_back_end.config;
 
+import com.example.new_back_end.metrics.AuthMetrics;
+import com.example.new_back_end.service.TokenRevocationService;
 import com.example.new_back_end.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * JWT 인증 필터 클래스
  * - 모든 HTTP 요청을 가로채서 JWT 토큰을 검증
  * - 유효한 토큰이 있으면 SecurityContext에 인증 정보 설정
+ * - 권한은 토큰의 역할 클레임으로 부여하고, 폐기(로그아웃)된 토큰은 메모리의 폐기 목록으로 거름 (DB 조회 없음)
  * - OncePerRequestFilter를 상속하여 요청당 한 번만 실행되도록 보장
+ * - 검증 시간과 성공/실패 횟수는 AuthMetrics 로 기록하고,
+ *   디버그 로그는 DEBUG 레벨이면서 샘플링된 요청에 대해서만 출력
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 역할별 권한 목록은 미리 만들어 재사용 (요청마다 객체 생성 없음)
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES = Map.of(
+            "USER", List.of(new SimpleGrantedAuthority("ROLE_USER")),
+            "ADMIN", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+
+    // 디버그 로그 샘플링 비율 (N 개 요청 중 1 개만 출력)
+    private final int traceSampleRate;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   TokenRevocationService tokenRevocationService,
+                                   AuthMetrics authMetrics,
+                                   @Value("${jwt.filter.trace-sample-rate:100}") int traceSampleRate) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authMetrics = authMetrics;
+        this.traceSampleRate = Math.max(1, traceSampleRate);
+    }
 
     /**
      * 필터의 핵심 로직
@@ -38,8 +68,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
-        // 디버그 로그 추가
-        System.out.println("🔍 JwtAuthenticationFilter 실행: " + request.getRequestURI());
+        // 디버그 로그는 샘플링된 요청에만 출력
+        boolean trace = log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(traceSampleRate) == 0;
+        if (trace) {
+            log.debug("JwtAuthenticationFilter 실행: {}", request.getRequestURI());
+        }
         
         // 1. HTTP 헤더에서 JWT 토큰 추출
         String token = jwtUtil.extractTokenFromRequest(request);
@@ -47,22 +80,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. 토큰이 존재하고 현재 SecurityContext에 인증 정보가 없는 경우
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             
+            long startNanos = System.nanoTime();
             try {
-                System.out.println("🔑 JWT 토큰 발견, 검증 시작");
-                
-                // 3. 토큰에서 사용자명 추출
-                String username = jwtUtil.getUsernameFromToken(token);
-                
-                // 4. 토큰 유효성 검증
-                if (jwtUtil.validateToken(token, username)) {
-                    System.out.println("✅ JWT 토큰 검증 성공: " + username);
+                // 3. 토큰을 한 번만 파싱/서명 검증 (검증된 토큰은 만료 시까지 캐시됨)
+                //    서명이 올바르지 않거나 만료된 경우 예외 발생
+                JwtUtil.VerifiedToken verified = jwtUtil.verify(token);
+                String username = verified.username();
+                authMetrics.recordVerify(startNanos);
+
+                // 4. 토큰 유효성 검증 완료 (폐기된 토큰은 인증하지 않음)
+                if (username != null && !tokenRevocationService.isRevoked(verified.tokenId())) {
+                    authMetrics.success();
+                    if (trace) {
+                        log.debug("JWT 토큰 검증 성공: {}", username);
+                    }
                     
                     // 5. 인증 토큰 생성 (Spring Security의 Authentication 객체)
                     UsernamePasswordAuthenticationToken authToken = 
                         new UsernamePasswordAuthenticationToken(
                             username,           // 주체(사용자명)
                             null,              // 자격증명(비밀번호는 null로 설정)
-                            new ArrayList<>()  // 권한 목록(현재는 빈 목록)
+                            authoritiesOf(verified.role())  // 권한 목록(토큰의 역할 클레임)
                         );
                     
                     // 6. 요청 세부 정보 설정
@@ -70,14 +108,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     
                     // 7. SecurityContext에 인증 정보 설정
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                } else {
+                    authMetrics.failure();
                 }
             } catch (Exception e) {
-                // 토큰 처리 중 예외 발생 시 로그 출력 (실제 운영에서는 로거 사용)
-                System.err.println("JWT 토큰 처리 중 오류 발생: " + e.getMessage());
+                // 토큰 처리 중 예외 발생 시 실패 횟수만 기록 (상세 내용은 샘플링된 디버그 로그)
+                authMetrics.recordVerify(startNanos);
+                authMetrics.failure();
+                if (trace) {
+                    log.debug("JWT 토큰 처리 중 오류 발생: {}", e.getMessage());
+                }
             }
         }
         
         // 8. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // 역할 -> 권한 목록 (알 수 없는 역할은 권한 없음)
+    private static List<GrantedAuthority> authoritiesOf(String role) {
+        return AUTHORITIES.getOrDefault(role, List.of());
+    }
+}
@@ -1,15 +1,55 @@
 package com.example.new_back_end.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
 
+    // 자동 보정으로 선택할 수 있는 최소 cost (느리거나 바쁜 호스트에서 해시 강도가 낮아지지 않도록 함)
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+
+    /**
+     * BCrypt 인코더
+     * - security.bcrypt.calibrate=true 이면 시작 시 현재 호스트에서 해시 1회가
+     *   target-ms 이내가 되는 가장 높은 cost 를 측정하여 사용 (최소 MIN_STRENGTH, 최소 cost 로도 목표를 넘으면 경고 로그만 남김)
+     * - 기존 해시는 cost 가 해시 문자열에 포함되어 있으므로 cost 변경 후에도 검증 가능
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength,
+                                           @Value("${security.bcrypt.calibrate:false}") boolean calibrate,
+                                           @Value("${security.bcrypt.target-ms:250}") long targetMillis) {
+        int cost = calibrate ? calibrateStrength(targetMillis) : strength;
+        return new BCryptPasswordEncoder(cost);
+    }
+
+    // cost 를 1씩 올리며 해시 시간을 측정하여 목표 시간 이내의 최대 cost 선택 (MIN_STRENGTH 미만으로는 내리지 않음)
+    private int calibrateStrength(long targetMillis) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(4).encode("calibration");
+
+        int chosen = MIN_STRENGTH;
+        for (int cost = MIN_STRENGTH; cost <= MAX_STRENGTH; cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (elapsedMillis > targetMillis) {
+                if (cost == MIN_STRENGTH) {
+                    log.warn("BCrypt 최소 cost {} 의 해시 시간 {}ms 가 목표 {}ms 를 넘습니다. cost 는 낮추지 않습니다.",
+                            MIN_STRENGTH, elapsedMillis, targetMillis);
+                }
+                break;
+            }
+            chosen = cost;
+        }
+        log.info("BCrypt cost 보정 완료: cost={} (목표 {}ms)", chosen, targetMillis);
+        return chosen;
     }
 }
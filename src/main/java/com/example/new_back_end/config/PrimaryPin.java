@@ -0,0 +1,62 @@
+package com.example.new_back_end.config;
+
+/**
+ * 요청 단위 주 DB 고정 (read-after-write)
+ * - 한 요청 안에서 주 DB 커넥션을 한 번이라도 사용하면(쓰기) 이후 읽기도 주 DB 로 보내
+ *   방금 쓴 데이터가 복제 지연 때문에 레플리카에서 보이지 않는 문제를 막음
+ * - 고정은 open() 으로 연 범위 안에서만 기록되고 범위를 닫으면 사라짐 (PrimaryPinFilter 가 요청마다 범위를 엶)
+ * - 범위 밖(스케줄러, 조회수 반영, 검색 색인, 비동기 응답 스레드 등)에서는 고정이 기록되지 않으므로
+ *   풀 스레드가 주 DB 에 계속 고정된 채 남지 않음
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    // 이미 열린 범위 안에서 다시 연 경우: 닫아도 바깥 범위를 유지
+    private static final Scope NESTED = new Scope(false);
+
+    private PrimaryPin() {
+    }
+
+    /**
+     * 고정 범위 시작 (try-with-resources 로 사용)
+     */
+    public static Scope open() {
+        if (CURRENT.get() != null) {
+            return NESTED;
+        }
+        Scope scope = new Scope(true);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // 열린 범위가 없으면 무시
+    public static void pin() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.pinned = true;
+        }
+    }
+
+    public static boolean isPinned() {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.pinned;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final boolean owner;
+        private boolean pinned;
+
+        private Scope(boolean owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void close() {
+            if (owner) {
+                CURRENT.remove();
+            }
+        }
+    }
+}
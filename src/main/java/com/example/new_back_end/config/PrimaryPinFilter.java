@@ -0,0 +1,24 @@
+package com.example.new_back_end.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 주 DB 고정(PrimaryPin) 범위를 열고, 요청이 끝나면 닫아 스레드 풀의 다음 요청에 남지 않도록 함
+ */
+public class PrimaryPinFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (PrimaryPin.Scope ignored = PrimaryPin.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
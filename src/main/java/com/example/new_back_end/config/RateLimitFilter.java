@@ -0,0 +1,128 @@
+package com.example.new_back_end.config;
+
+import com.example.new_back_end.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 속도 제한 필터 (JwtAuthenticationFilter 다음에 실행)
+ * - 경로/메서드별 규칙(rate-limit.rules)마다 사용자별 토큰 버킷을 두고, 토큰이 없으면 429 + Retry-After 응답
+ * - 인증된 요청은 사용자명, 인증 API(/api/auth/**)와 미인증 요청은 클라이언트 IP 기준
+ *   (프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP 사용)
+ * - 버킷은 잠금 없는 TokenBucket(AtomicLong CAS), 버킷 맵은 크기 제한과 유휴 만료가 있는 Caffeine 캐시
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final Cache<String, TokenBucket> buckets;
+    private final MeterRegistry meterRegistry;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.meterRegistry = meterRegistry;
+        this.rules = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            // 잘못된 설정은 시작 시점에 실패하도록 미리 검증
+            new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond());
+            Set<String> methods = rule.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            rules.add(new CompiledRule(rule, PathPatternParser.defaultInstance.parse(rule.getPattern()), methods));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        CompiledRule rule = match(request.getMethod(), path);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 1. 규칙 + 사용자(또는 IP) 별 버킷에서 토큰 1개 사용
+        String key = rule.rule().getName() + "|" + clientKey(request, path);
+        TokenBucket bucket = buckets.get(key,
+                k -> new TokenBucket(rule.rule().getCapacity(), rule.rule().getRefillPerSecond()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. 토큰이 없으면 429 Too Many Requests, 다음 토큰까지 남은 시간(초, 올림)을 Retry-After 로 안내
+        meterRegistry.counter("rate.limit.rejected", "rule", rule.rule().getName()).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해 주세요.");
+    }
+
+    // 처음 일치하는 규칙, 없으면 null
+    private CompiledRule match(String method, String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledRule rule : rules) {
+            if ((rule.methods().isEmpty() || rule.methods().contains(method)) && rule.pattern().matches(pathContainer)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 인증 API 와 미인증 요청은 IP, 그 외에는 JwtAuthenticationFilter 가 설정한 사용자명
+    private String clientKey(HttpServletRequest request, String path) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (path.startsWith(AUTH_PATH_PREFIX) || authentication == null
+                || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return "ip:" + request.getRemoteAddr();
+        }
+        return "user:" + authentication.getName();
+    }
+
+    private record CompiledRule(RateLimitProperties.Rule rule, PathPattern pattern, Set<String> methods) {
+    }
+}
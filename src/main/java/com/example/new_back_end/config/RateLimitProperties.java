@@ -0,0 +1,43 @@
+package com.example.new_back_end.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ * - rules 는 위에서부터 순서대로 비교하여 처음 일치하는 규칙 하나만 적용, 일치하는 규칙이 없으면 제한하지 않음
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 메모리에 유지할 최대 버킷 수 (사용자/IP x 규칙), 초과 시 오래 쓰지 않은 버킷부터 제거
+    private long maxKeys = 100_000;
+
+    // 이 시간 동안 요청이 없으면 버킷 제거 (다시 요청하면 가득 찬 버킷으로 시작)
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Rule {
+        private String name;                        // 규칙 이름 (버킷 키, 메트릭 태그)
+        private String pattern;                     // 경로 패턴 (예: /api/posts/**)
+        private List<String> methods = new ArrayList<>();   // HTTP 메서드, 비어 있으면 모든 메서드
+        private long capacity;                      // 최대 연속 요청 수 (burst)
+        private double refillPerSecond;             // 초당 허용 요청 수
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.new_back_end.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * 논블로킹 조회 API 용 R2DBC 설정
+ * - ConnectionFactory(커넥션 풀)는 spring.r2dbc.* 설정으로 자동 구성
+ *   (ConnectionFactory 가 있으면 JDBC DataSource 자동 구성이 꺼지므로 DataSource 는 JdbcDataSourceConfig 에서 등록)
+ * - 트랜잭션 매니저는 JPA 쪽 하나만 두기 위해 R2dbcTransactionManagerAutoConfiguration 을 제외하고 (application.properties),
+ *   조회 전용이므로 DatabaseClient 만 직접 등록
+ */
+@Configuration
+public class ReactiveDatabaseConfig {
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.new_back_end.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource
+ * - 레플리카 커넥션 풀을 라운드 로빈으로 사용
+ * - 커넥션 획득에 실패한 레플리카는 cooldown 동안 건너뛰고 다음 레플리카로 재시도 (장애 조치)
+ * - 사용 가능한 레플리카가 없거나 현재 요청이 주 DB 에 고정(PrimaryPin 범위 안에서 쓰기)된 경우 주 DB 사용
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final long cooldownNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(List<DataSource> replicas, DataSource primary, long cooldownNanos) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.primary = primary;
+        this.cooldownNanos = cooldownNanos;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    // 선택한 레플리카(또는 주 DB)에서 opener 로 커넥션 획득
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        if (PrimaryPin.isPinned() || replicas.isEmpty()) {
+            return opener.open(primary);
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            long now = System.nanoTime();
+            if (now - replica.downUntil < 0) {
+                continue;
+            }
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLFeatureNotSupportedException e) {
+                // 레플리카 장애가 아니라 풀이 지원하지 않는 호출 (예: Hikari 의 사용자별 커넥션)
+                throw e;
+            } catch (SQLException e) {
+                replica.downUntil = now + cooldownNanos;
+                log.warn("레플리카 커넥션 획득 실패, {}ms 동안 제외: {}", cooldownNanos / 1_000_000, e.getMessage());
+            }
+        }
+
+        // 모든 레플리카를 사용할 수 없으면 주 DB 로 읽기
+        return opener.open(primary);
+    }
+
+    // 레플리카 커넥션 풀 종료 (주 DB 풀은 별도 빈으로 관리)
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile long downUntil;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.downUntil = System.nanoTime();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.new_back_end.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -15,6 +17,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * Spring Security 필터 체인 설정
@@ -33,11 +36,16 @@ public class SecurityConfig {
                 // JWT 필터를 Spring Security 필터 체인에 추가
                 // UsernamePasswordAuthenticationFilter 이전에 실행되도록 설정
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 속도 제한은 JWT 인증 직후 실행 (인증된 사용자명 기준으로 제한)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()   // 스트리밍 응답의 비동기 디스패치 (최초 요청에서 이미 인가됨)
                         .requestMatchers("/api/auth/**").permitAll()           // 인증 API는 토큰 없이 접근 가능
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()  // Swagger 문서 접근 허용
                         .requestMatchers("/h2-console/**").permitAll()         // H2 Console 접근 허용 (개발용)
+                        .requestMatchers("/actuator/health").permitAll()       // 헬스 체크 허용
+                        .requestMatchers("/actuator/**", "/api/monitoring/**").hasRole("ADMIN")   // 운영 지표는 관리자만 (권한은 토큰 클레임)
                         .anyRequest().authenticated()                          // 나머지 모든 요청은 JWT 토큰 필요
                 )
                 
@@ -46,4 +54,15 @@ public class SecurityConfig {
         
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 속도 제한 필터는 Security 필터 체인 안에서만 실행
+     * - @Component 필터는 서블릿 필터로도 자동 등록되므로, 인증 정보가 없는 위치에서 한 번 더 실행되지 않도록 비활성화
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
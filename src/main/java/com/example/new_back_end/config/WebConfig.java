@@ -4,12 +4,18 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * 웹 설정
+ * - 조건부 GET(ETag/Last-Modified)은 컨트롤러에서 본문을 만들기 전에 판단
+ *   (단건: 수정 시각, 목록: 페이지 행들의 (id, 수정 시각), 검색: 검색 인덱스 버전)
+ */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5173") // Vue 개발 서버 주소
-                .allowedMethods("GET", "POST", "PUT", "DELETE");
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE")
+                .exposedHeaders("ETag", "Last-Modified");   // 조건부 GET 을 위해 클라이언트에 노출
     }
 }
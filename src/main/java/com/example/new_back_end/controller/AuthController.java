@@ -4,14 +4,18 @@ import com.example.new_back_end.dto.LoginRequestDTO;
 import com.example.new_back_end.dto.LoginResponseDTO;
 import com.example.new_back_end.dto.SignUpRequestDTO;
 import com.example.new_back_end.dto.SignUpResponseDTO;
+import com.example.new_back_end.exception.AuthOverloadedException;
 import com.example.new_back_end.service.UserService;
+import com.example.new_back_end.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -22,9 +26,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/auth")
 @AllArgsConstructor
-@Tag(name = "인증 API", description = "회원가입, 로그인 관련 API")
+@Tag(name = "인증 API", description = "회원가입, 로그인, 로그아웃 관련 API")
 public class AuthController {
     private final UserService userService;
+    private final JwtUtil jwtUtil;
+
+    // 해시 작업 과부하 시 재시도 권장 시간(초)
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     @PostMapping("/signup")
     @Operation(
@@ -34,7 +42,8 @@ public class AuthController {
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "회원가입 성공"),
             @ApiResponse(responseCode = "400", description = "중복된 사용자명 또는 이메일"),
-            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류"),
+            @ApiResponse(responseCode = "503", description = "인증 요청 과부하, Retry-After 이후 재시도")
     })
     public ResponseEntity<?> signUp(
             @Parameter(description = "회원가입 정보 (사용자명, 이메일, 비밀번호)")
@@ -46,6 +55,11 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             // 중복된 사용자명 / 이메일인 경우
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (AuthOverloadedException e) {
+            // 비밀번호 해시 작업 큐가 가득 찬 경우
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(e.getMessage());
         } catch (Exception e) {
             // 기타 예외 상황
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("회원가입 중 오류가 발생했습니다");
@@ -60,7 +74,8 @@ public class AuthController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "로그인 성공, JWT 토큰 반환"),
             @ApiResponse(responseCode = "400", description = "잘못된 사용자명 또는 비밀번호"),
-            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류"),
+            @ApiResponse(responseCode = "503", description = "인증 요청 과부하, Retry-After 이후 재시도")
     })
     public ResponseEntity<?> login(
             @Parameter(description = "로그인 정보 (사용자명, 비밀번호)")
@@ -72,9 +87,33 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             // 사용자명이 존재하지 않거나 비밀번호가 일치하지 않는 경우
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (AuthOverloadedException e) {
+            // 비밀번호 해시 작업 큐가 가득 찬 경우
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(e.getMessage());
         } catch (Exception e) {
             // 기타 예외 상황
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("로그인 중 오류가 발생했습니다");
         }
     }
+
+    @PostMapping("/logout")
+    @Operation(
+            summary = "로그아웃",
+            description = "Authorization 헤더의 JWT 토큰을 만료 시각까지 폐기합니다. 폐기된 토큰으로는 더 이상 인증되지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+            @ApiResponse(responseCode = "400", description = "토큰이 없거나 유효하지 않음")
+    })
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        try {
+            userService.logout(jwtUtil.extractTokenFromRequest(request));
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            // 토큰이 없거나 서명이 올바르지 않거나 만료된 경우
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
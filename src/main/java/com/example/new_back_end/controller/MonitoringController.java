@@ -0,0 +1,28 @@
+package com.example.new_back_end.controller;
+
+import com.example.new_back_end.cache.PostCache;
+import com.example.new_back_end.dto.CacheStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/monitoring")
+@AllArgsConstructor
+@Tag(name = "모니터링 API", description = "캐시 등 내부 상태 조회 API")
+public class MonitoringController {
+
+    private final PostCache postCache;
+
+    @GetMapping("/post-cache")
+    @Operation(
+            summary = "게시글 캐시 통계",
+            description = "단일 게시글 캐시의 적중/미스/제거 횟수와 현재 크기를 조회합니다."
+    )
+    public CacheStatsDTO postCacheStats() {
+        return postCache.stats();
+    }
+}
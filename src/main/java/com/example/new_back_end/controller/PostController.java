@@ -1,15 +1,32 @@
 package com.example.new_back_end.controller;
 
+import com.example.new_back_end.cache.PostResponseCache;
+import com.example.new_back_end.dto.BatchCreateResponseDTO;
+import com.example.new_back_end.dto.BulkDeleteResponseDTO;
+import com.example.new_back_end.dto.CursorPageDTO;
+import com.example.new_back_end.dto.PostPatchRequestDTO;
+import com.example.new_back_end.dto.PostSearchResponseDTO;
+import com.example.new_back_end.dto.PostSummaryDTO;
 import com.example.new_back_end.dto.RequestDTO;
 import com.example.new_back_end.dto.ResponseDTO;
 import com.example.new_back_end.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -37,35 +54,207 @@ public class PostController {
         return postService.create(requestDTO);
     }
 
+    // 게시글 일괄 생성
+    @PostMapping("/api/posts/batch")
+    @Operation(
+            summary = "게시글 일괄 생성",
+            description = "여러 게시글을 한 번에 생성합니다. 마이그레이션/가져오기 작업용으로 JDBC 배치 INSERT 를 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 일괄 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "빈 목록 또는 최대 건수 초과")
+    })
+    public ResponseEntity<?> createAll(
+            @Parameter(description = "생성할 게시글 목록 (제목, 내용, 작성자)")
+            @RequestBody List<RequestDTO> requestDTOs
+    ) {
+        try {
+            BatchCreateResponseDTO response = postService.createAll(requestDTOs);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            // 빈 목록 또는 최대 건수 초과
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // 게시글 조회(단일)
     @GetMapping("/api/posts/{id}")
     @Operation(
             summary = "특정 게시글 조회",
-            description = "게시글 ID를 통해 특정 게시글의 상세 정보를 조회합니다."
+            description = "게시글 ID를 통해 특정 게시글의 상세 정보를 조회합니다. ETag/Last-Modified 를 제공하며, If-None-Match/If-Modified-Since 가 일치하면 본문 없이 304 를 응답합니다. Accept-Encoding 에 gzip 이 있으면 미리 압축된 본문을 응답합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "게시글 조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "게시글이 변경되지 않음"),
             @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
     })
-    public ResponseDTO read(
+    public ResponseEntity<byte[]> read(
             @Parameter(description = "조회할 게시글의 ID", example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
     ) {
-        return postService.read(id);
+        // 1. 본문을 만들기 전에 버전(수정 시각)만으로 변경 여부 판단
+        PostService.PostVersion version = postService.getVersion(id);
+        if (version == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            // 304 Not Modified (상태 코드와 헤더는 checkNotModified 가 설정)
+            return null;
+        }
+
+        // 2. 변경된 경우에만 캐시된 응답 바이트를 그대로 전송 (ETag/Last-Modified 헤더는 위에서 설정됨)
+        PostResponseCache.CachedBody body = postService.readSerialized(id);
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
     }
 
     // 게시글 조회(전체)
     @GetMapping("/api/posts")
     @Operation(
             summary = "전체 게시글 조회",
-            description = "등록된 모든 게시글의 목록을 조회합니다."
+            description = "등록된 게시글 목록을 최신순으로 조회합니다. author 를 지정하면 해당 작성자의 게시글만 조회합니다. 최대 반환 건수는 post.list.legacy-max-size 설정으로 제한되며, 대량 조회는 /api/posts/page 를 사용하세요."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
-            @ApiResponse(responseCode = "204", description = "등록된 게시글이 없음")
+            @ApiResponse(responseCode = "204", description = "등록된 게시글이 없음"),
+            @ApiResponse(responseCode = "304", description = "게시글 목록이 변경되지 않음")
     })
-    public List<ResponseDTO> readAll() {
-        return postService.readAll();
+    public List<ResponseDTO> readAll(
+            @Parameter(description = "작성자 (지정하면 해당 작성자의 게시글만 조회)", example = "author1")
+            @RequestParam(required = false) String author,
+            WebRequest webRequest
+    ) {
+        // 목록을 읽기 전에 (id, 수정 시각)만으로 변경 여부 판단
+        if (webRequest.checkNotModified(postService.getListVersion(author))) {
+            return null;
+        }
+        return postService.readAll(author);
+    }
+
+    // 게시글 조회(커서 페이지)
+    @GetMapping("/api/posts/page")
+    @Operation(
+            summary = "게시글 커서 페이지 조회",
+            description = "게시글을 최신순(createdDate, id)으로 limit 건씩 조회합니다. 응답의 next 값을 cursor 로 전달하면 다음 페이지를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 페이지 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경되지 않음"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor 또는 limit 값")
+    })
+    public ResponseEntity<?> readPage(
+            @Parameter(description = "이전 응답의 next 값 (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "작성자 (지정하면 해당 작성자의 게시글만 조회)", example = "author1")
+            @RequestParam(required = false) String author,
+            WebRequest webRequest
+    ) {
+        try {
+            // 페이지를 읽기 전에 (id, 수정 시각)만으로 변경 여부 판단
+            if (webRequest.checkNotModified(postService.getPageVersion(cursor, limit, author))) {
+                return null;
+            }
+            CursorPageDTO<ResponseDTO> page = postService.readPage(cursor, limit, author);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 또는 limit
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 게시글 요약 조회(커서 페이지)
+    @GetMapping("/api/posts/summary")
+    @Operation(
+            summary = "게시글 요약 목록 조회",
+            description = "목록 화면용으로 본문(content)을 제외한 제목, 작성자, 작성/수정일, 조회수만 커서 페이지로 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 요약 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경되지 않음"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor 또는 limit 값")
+    })
+    public ResponseEntity<?> readSummaryPage(
+            @Parameter(description = "이전 응답의 next 값 (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "작성자 (지정하면 해당 작성자의 게시글만 조회)", example = "author1")
+            @RequestParam(required = false) String author,
+            WebRequest webRequest
+    ) {
+        try {
+            // 페이지를 읽기 전에 (id, 수정 시각)만으로 변경 여부 판단
+            if (webRequest.checkNotModified(postService.getPageVersion(cursor, limit, author))) {
+                return null;
+            }
+            CursorPageDTO<PostSummaryDTO> page = postService.readSummaryPage(cursor, limit, author);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 또는 limit
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 게시글 검색
+    @GetMapping("/api/posts/search")
+    @Operation(
+            summary = "게시글 검색",
+            description = "제목과 본문에서 검색어를 찾아 관련도 순으로 조회합니다. 제목 일치에 더 높은 점수를 부여합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
+            @ApiResponse(responseCode = "304", description = "변경되지 않음"),
+            @ApiResponse(responseCode = "400", description = "검색어 누락 또는 잘못된 페이지 값")
+    })
+    public ResponseEntity<?> search(
+            @Parameter(description = "검색어", example = "스프링")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        try {
+            // 검색 인덱스 버전이 그대로면 검색/DB 조회 없이 304
+            if (webRequest.checkNotModified(postService.getSearchVersion(q, page, size))) {
+                return null;
+            }
+            PostSearchResponseDTO response = postService.search(q, page, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            // 검색어 누락 또는 잘못된 페이지 값
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 게시글 전체 내보내기(NDJSON 스트리밍)
+    @GetMapping(value = "/api/posts/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "게시글 전체 내보내기",
+            description = "모든 게시글을 한 줄에 하나씩 JSON(NDJSON)으로 스트리밍합니다. 분석용 대량 내보내기에 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 스트림 시작")
+    })
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> postService.exportNdjson(outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     // 게시글 수정
@@ -77,31 +266,125 @@ public class PostController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "게시글 수정 성공"),
             @ApiResponse(responseCode = "404", description = "수정할 게시글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 게시글을 수정함"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
     })
-    public ResponseDTO update(
+    public ResponseEntity<?> update(
             @Parameter(description = "수정할 게시글의 ID", example = "1")
             @PathVariable Long id,
             @Parameter(description = "수정할 게시글 정보 (제목, 내용, 작성자)")
             @RequestBody RequestDTO requestDTO
     ){
-        return postService.update(id, requestDTO);
+        try {
+            ResponseDTO response = postService.update(id, requestDTO);
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // 게시글 부분 수정
+    @PatchMapping("/api/posts/{id}")
+    @Operation(
+            summary = "게시글 부분 수정",
+            description = "전달된 필드(제목, 내용, 작성자)만 수정합니다. 조회 시 받은 version 이 필요하며, 그 사이 다른 요청이 게시글을 수정했다면 409 를 응답합니다. 성공 시 새 ETag 를 응답합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "게시글 부분 수정 성공"),
+            @ApiResponse(responseCode = "400", description = "version 누락 또는 수정할 필드 없음"),
+            @ApiResponse(responseCode = "404", description = "수정할 게시글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "version 불일치 (다른 요청이 먼저 수정함)")
+    })
+    public ResponseEntity<?> patch(
+            @Parameter(description = "수정할 게시글의 ID", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "수정할 필드와 조회 시 받은 version (null 인 필드는 변경하지 않음)")
+            @RequestBody PostPatchRequestDTO patchDTO
+    ) {
+        try {
+            PostService.PostVersion version = postService.patch(id, patchDTO);
+            return ResponseEntity.noContent()
+                    .eTag(version.eTag())
+                    .lastModified(version.lastModified())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     // 게시글 삭제
     @DeleteMapping("/api/posts/{id}")
     @Operation(
             summary = "게시글 삭제",
-            description = "특정 게시글을 삭제합니다. 삭제된 게시글은 복구할 수 없습니다."
+            description = "특정 게시글을 삭제합니다. 삭제된 게시글은 즉시 조회되지 않으며, 보존 기간이 지나면 백그라운드에서 영구 삭제됩니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "게시글 삭제 성공"),
             @ApiResponse(responseCode = "404", description = "삭제할 게시글을 찾을 수 없음")
     })
-    public void delete(
+    public ResponseEntity<?> delete(
             @Parameter(description = "삭제할 게시글의 ID", example = "1")
             @PathVariable Long id
     ) {
-        postService.delete(id);
+        try {
+            postService.delete(id);
+            return ResponseEntity.ok().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // 게시글 일괄 삭제
+    @PostMapping("/api/posts/bulk-delete")
+    @Operation(
+            summary = "게시글 일괄 삭제",
+            description = "ID 목록의 게시글을 한 번에 삭제합니다. 없거나 이미 삭제된 게시글은 건너뜁니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 일괄 삭제 성공"),
+            @ApiResponse(responseCode = "400", description = "빈 목록 또는 최대 건수 초과")
+    })
+    public ResponseEntity<?> deleteAll(
+            @Parameter(description = "삭제할 게시글 ID 목록")
+            @RequestBody List<Long> ids
+    ) {
+        try {
+            BulkDeleteResponseDTO response = postService.deleteAll(ids);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            // 빈 목록 또는 최대 건수 초과
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Accept-Encoding 에 gzip 이 있고 q=0 으로 거부되지 않았는지 확인
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
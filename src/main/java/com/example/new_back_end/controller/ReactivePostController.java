@@ -0,0 +1,67 @@
+package com.example.new_back_end.controller;
+
+import com.example.new_back_end.dto.ResponseDTO;
+import com.example.new_back_end.service.ReactivePostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@AllArgsConstructor
+@Tag(name = "게시판 논블로킹 조회 API", description = "R2DBC 기반 게시글 조회 API (쓰기는 게시판 API 사용)")
+public class ReactivePostController {
+
+    private final ReactivePostService reactivePostService;
+
+    // 게시글 조회(단일)
+    @GetMapping("/api/reactive/posts/{id}")
+    @Operation(
+            summary = "특정 게시글 조회 (논블로킹)",
+            description = "GET /api/posts/{id} 와 같은 응답을 R2DBC 로 조회합니다. DB 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    })
+    public Mono<ResponseEntity<ResponseDTO>> read(
+            @Parameter(description = "조회할 게시글의 ID", example = "1")
+            @PathVariable Long id
+    ) {
+        return reactivePostService.read(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // 게시글 조회(전체)
+    @GetMapping(value = "/api/reactive/posts", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "게시글 목록 조회 (논블로킹)",
+            description = "최신순 게시글 목록을 조회합니다. Accept: application/x-ndjson 이면 한 줄에 게시글 하나씩, 클라이언트가 받는 속도에 맞춰 스트리밍합니다. application/json 이면 배열로 한 번에 응답합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 limit")
+    })
+    public ResponseEntity<Flux<ResponseDTO>> readAll(
+            @Parameter(description = "최대 건수 (생략 시 post.list.legacy-max-size)", example = "100")
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(reactivePostService.readAll(limit));
+        } catch (IllegalArgumentException e) {
+            // limit 이 1 미만 (스트리밍 응답 타입이므로 본문 없이 400)
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
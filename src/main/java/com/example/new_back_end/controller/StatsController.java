@@ -0,0 +1,67 @@
+package com.example.new_back_end.controller;
+
+import com.example.new_back_end.dto.PostStatsDTO;
+import com.example.new_back_end.service.PostStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@AllArgsConstructor
+@Tag(name = "통계 API", description = "대시보드용 게시판 통계 API")
+public class StatsController {
+
+    private final PostStatisticsService postStatisticsService;
+
+    // 게시판 통계
+    @GetMapping
+    @Operation(
+            summary = "게시판 통계",
+            description = "전체 게시글 수와 전체 조회수를 조회합니다. author 를 주면 해당 작성자의 게시글 수도 함께 반환합니다. " +
+                    "메모리 집계값을 반환하므로 DB 를 조회하지 않습니다."
+    )
+    public PostStatsDTO stats(
+            @Parameter(description = "게시글 수를 함께 조회할 작성자 (선택)")
+            @RequestParam(required = false) String author
+    ) {
+        PostStatsDTO dto = new PostStatsDTO();
+        dto.setTotalPosts(postStatisticsService.totalPosts());
+        dto.setTotalViews(postStatisticsService.totalViews());
+        if (author != null && !author.isBlank()) {
+            dto.setAuthor(author);
+            dto.setAuthorPostCount(postStatisticsService.postCount(author));
+        }
+        dto.setReconciledAt(postStatisticsService.reconciledAt());
+        return dto;
+    }
+
+    // 작성자별 게시글 수 순위
+    @GetMapping("/authors")
+    @Operation(
+            summary = "작성자별 게시글 수",
+            description = "게시글 수가 많은 작성자 순으로 최대 limit 명의 게시글 수를 조회합니다. " +
+                    "순위 대상은 주기적 보정 시점의 상위 작성자이며, 게시글 수는 현재 값입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (작성자 -> 게시글 수)"),
+            @ApiResponse(responseCode = "400", description = "limit 이 1 미만")
+    })
+    public ResponseEntity<?> topAuthors(
+            @Parameter(description = "조회할 작성자 수 (기본 10, 최대 100)")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().body("limit 은 1 이상이어야 합니다.");
+        }
+        return ResponseEntity.ok(postStatisticsService.topAuthors(Math.min(limit, PostStatisticsService.TOP_AUTHORS_SIZE)));
+    }
+}
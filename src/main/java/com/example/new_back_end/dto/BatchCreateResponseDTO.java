@@ -0,0 +1,15 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchCreateResponseDTO {
+    private int count;              // 생성된 게시글 수
+    private List<Long> ids;         // 생성된 게시글 ID (요청 순서와 동일)
+}
@@ -0,0 +1,13 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkDeleteResponseDTO {
+    private int requested;          // 요청된 게시글 ID 수 (중복 제외)
+    private int deleted;            // 실제 삭제된 게시글 수 (없거나 이미 삭제된 게시글 제외)
+}
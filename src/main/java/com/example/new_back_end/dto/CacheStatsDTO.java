@@ -0,0 +1,19 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CacheStatsDTO {
+    private long estimatedSize;             // 현재 캐시 항목 수 (근사값)
+    private long hitCount;                  // 캐시 적중 횟수
+    private long missCount;                 // 캐시 미스 횟수
+    private double hitRate;                 // 적중률 (0.0 ~ 1.0)
+    private long evictionCount;             // 크기/TTL 로 제거된 항목 수
+    private long loadSuccessCount;          // DB 로딩 성공 횟수
+    private long loadFailureCount;          // DB 로딩 실패 횟수 (존재하지 않는 게시글 포함)
+    private double averageLoadPenaltyNanos; // 평균 로딩 시간 (ns)
+}
@@ -0,0 +1,15 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;          // 현재 페이지 항목
+    private String next;            // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,16 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 게시글 부분 수정 요청 - null 인 필드는 변경하지 않음, version 은 조회 시 받은 값 (필수)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostPatchRequestDTO {
+    private String title;
+    private String content;
+    private String author;
+    private Long version;
+}
@@ -0,0 +1,17 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostSearchResponseDTO {
+    private List<PostSummaryDTO> items;     // 검색 점수 순 게시글 요약
+    private long totalHits;                 // 전체 일치 건수 (1000건 이상이면 하한값)
+    private int page;                       // 현재 페이지 (0부터 시작)
+    private int size;                       // 페이지 크기
+}
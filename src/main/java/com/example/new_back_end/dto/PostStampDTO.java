@@ -0,0 +1,17 @@
+package com.example.new_back_end.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조건부 GET(ETag) 판단용 게시글 식별 정보
+ * - 목록 본문을 읽기 전에 같은 조건/순서로 id, 수정 시각만 조회 (PostRepository 의 JPQL 생성자 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class PostStampDTO {
+    private Long id;
+    private LocalDateTime updatedDate;
+}
@@ -0,0 +1,18 @@
+package com.example.new_back_end.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostStatsDTO {
+    private long totalPosts;                // 전체 게시글 수 (삭제 표시된 게시글 제외)
+    private long totalViews;                // 전체 조회수 (아직 DB 에 반영되지 않은 증가분 포함)
+    private String author;                  // 작성자 조건 (요청한 경우에만)
+    private Long authorPostCount;           // 해당 작성자의 게시글 수 (작성자 조건이 있을 때만)
+    private LocalDateTime reconciledAt;     // 마지막으로 DB 집계와 맞춘 시각 (초기 집계 전이면 null)
+}
@@ -0,0 +1,27 @@
+package com.example.new_back_end.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 게시글 요약 DTO
+ * - content 컬럼을 포함하지 않음
+ * - PostRepository 의 JPQL 생성자 프로젝션(select new ...)으로 직접 생성되므로
+ *   영속성 컨텍스트에 엔티티가 올라가지 않음 (필드 순서 = 생성자 인자 순서)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryDTO {
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+    private int viewCount;
+}
@@ -17,4 +17,5 @@ public class ResponseDTO {
     private LocalDateTime createdDate;
     private LocalDateTime updatedDate;
     private int viewCount;
+    private Long version;
 }
@@ -1,25 +1,36 @@
 package com.example.new_back_end.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+// 삭제는 tombstone(deleted = true) 표시만 하고, 실제 행 삭제는 PostPurger 가 백그라운드에서 일괄 처리
+// 엔티티 조회/JPQL 에는 삭제되지 않은 행만 포함됨 (네이티브 SQL 은 직접 조건 추가 필요)
 @Entity
+@SQLRestriction("deleted = false")
 @Getter
 @Setter
 @NoArgsConstructor
 public class Post {
 
+    // pooled 시퀀스: INSERT 전에 ID 를 allocationSize 단위로 미리 확보하여 JDBC 배치 INSERT 가능
+    // (IDENTITY 는 INSERT 마다 생성된 키를 받아야 하므로 Hibernate 배치가 비활성화됨)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String content;
@@ -31,5 +42,21 @@ public class Post {
     @UpdateTimestamp
     private LocalDateTime updatedDate;
 
+    // 조회수는 ViewCountService 가 배치 UPDATE 로만 증가시키므로 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(updatable = false)
     private int viewCount = 0;
+
+    // 낙관적 잠금 버전 - 수정할 때마다 1 증가, 동시에 수정하면 나중 요청이 409 로 실패
+    // (기존 행은 0 으로 채워지도록 DB 기본값 지정)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // 삭제 표시 및 삭제 시각 (PostPurger 가 보존 기간이 지난 행을 물리 삭제)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted = false;
+
+    private LocalDateTime deletedAt;
 }
@@ -7,21 +7,27 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        // 회원가입 시 중복 여부를 제약 조건 이름으로 구분하기 위해 이름을 명시
+        @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+})
 public class User {
 
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @Enumerated(EnumType.STRING)
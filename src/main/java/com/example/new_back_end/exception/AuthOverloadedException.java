@@ -0,0 +1,12 @@
+package com.example.new_back_end.exception;
+
+/**
+ * 비밀번호 해시 작업 큐가 가득 찼거나 대기 시간이 초과된 경우 발생
+ * - 컨트롤러에서 503 Service Unavailable + Retry-After 로 변환
+ */
+public class AuthOverloadedException extends RuntimeException {
+
+    public AuthOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.new_back_end.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 계측
+ * - 미터는 생성 시 한 번만 등록하고 필드로 보관하여, 요청 처리 중에는
+ *   태그 조회나 객체 생성 없이 기록만 수행
+ * - /actuator/metrics/auth.token.verify, /actuator/metrics/auth.token.result 로 조회
+ */
+@Component
+public class AuthMetrics {
+
+    private final Timer verifyTimer;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.verifyTimer = Timer.builder("auth.token.verify")
+                .description("JWT 토큰 검증 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.successCounter = Counter.builder("auth.token.result")
+                .description("JWT 토큰 검증 결과")
+                .tag("result", "success")
+                .register(registry);
+        this.failureCounter = Counter.builder("auth.token.result")
+                .description("JWT 토큰 검증 결과")
+                .tag("result", "failure")
+                .register(registry);
+    }
+
+    // 토큰 검증 소요 시간 기록 (startNanos: System.nanoTime() 측정값)
+    public void recordVerify(long startNanos) {
+        verifyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void success() {
+        successCounter.increment();
+    }
+
+    public void failure() {
+        failureCounter.increment();
+    }
+}
@@ -1,7 +1,160 @@
 package com.example.new_back_end.repository;
 
+import com.example.new_back_end.dto.PostStampDTO;
+import com.example.new_back_end.dto.PostSummaryDTO;
 import com.example.new_back_end.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    // 목록 쿼리는 모두 (created_date desc, id desc) 순서이며, 작성자 조건이 있으면 (author, created_date, id) 인덱스를 사용
+    // (인덱스 정의: db/migration/{vendor}/V2__post_indexes.sql, 실행 계획 검사: PostQueryPlanTest)
+
+    // 키셋 페이지네이션 첫 페이지 (최신순: createdDate desc, id desc)
+    @Query("select p from Post p order by p.createdDate desc, p.id desc")
+    List<Post> findFirstPage(Pageable pageable);
+
+    // 키셋 페이지네이션 다음 페이지 (커서 (createdDate, id) 이후의 게시글)
+    // createdDate <= 조건을 따로 두어 인덱스 범위 스캔이 커서 위치에서 바로 시작하도록 함
+    @Query("select p from Post p " +
+            "where p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) " +
+            "order by p.createdDate desc, p.id desc")
+    List<Post> findPageAfter(@Param("createdDate") LocalDateTime createdDate,
+                             @Param("id") Long id,
+                             Pageable pageable);
+
+    // 요약 목록 첫 페이지 (content 제외 DTO 프로젝션)
+    @Query("select new com.example.new_back_end.dto.PostSummaryDTO(" +
+            "p.id, p.title, p.author, p.createdDate, p.updatedDate, p.viewCount) " +
+            "from Post p order by p.createdDate desc, p.id desc")
+    List<PostSummaryDTO> findSummaryFirstPage(Pageable pageable);
+
+    // 요약 목록 다음 페이지 (content 제외 DTO 프로젝션)
+    @Query("select new com.example.new_back_end.dto.PostSummaryDTO(" +
+            "p.id, p.title, p.author, p.createdDate, p.updatedDate, p.viewCount) " +
+            "from Post p " +
+            "where p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) " +
+            "order by p.createdDate desc, p.id desc")
+    List<PostSummaryDTO> findSummaryPageAfter(@Param("createdDate") LocalDateTime createdDate,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // 작성자별 첫 페이지
+    @Query("select p from Post p where p.author = :author order by p.createdDate desc, p.id desc")
+    List<Post> findByAuthorFirstPage(@Param("author") String author, Pageable pageable);
+
+    // 작성자별 다음 페이지
+    @Query("select p from Post p " +
+            "where p.author = :author " +
+            "and p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) " +
+            "order by p.createdDate desc, p.id desc")
+    List<Post> findByAuthorPageAfter(@Param("author") String author,
+                                     @Param("createdDate") LocalDateTime createdDate,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    // 작성자별 요약 목록 첫 페이지
+    @Query("select new com.example.new_back_end.dto.PostSummaryDTO(" +
+            "p.id, p.title, p.author, p.createdDate, p.updatedDate, p.viewCount) " +
+            "from Post p where p.author = :author order by p.createdDate desc, p.id desc")
+    List<PostSummaryDTO> findSummaryByAuthorFirstPage(@Param("author") String author, Pageable pageable);
+
+    // 작성자별 요약 목록 다음 페이지
+    @Query("select new com.example.new_back_end.dto.PostSummaryDTO(" +
+            "p.id, p.title, p.author, p.createdDate, p.updatedDate, p.viewCount) " +
+            "from Post p " +
+            "where p.author = :author " +
+            "and p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) " +
+            "order by p.createdDate desc, p.id desc")
+    List<PostSummaryDTO> findSummaryByAuthorPageAfter(@Param("author") String author,
+                                                      @Param("createdDate") LocalDateTime createdDate,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    // 전체 내보내기용 스트림 (서버 측 커서 + fetch size 단위로 읽음, 트랜잭션 안에서만 사용 가능)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Post p order by p.id")
+    Stream<Post> streamAllByOrderById();
+
+    // 검색 인덱스 따라잡기용 - since 이후 생성/수정된 게시글 스트림 (트랜잭션 안에서만 사용 가능)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Post p where p.updatedDate >= :since order by p.id")
+    Stream<Post> streamUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 검색 인덱스 따라잡기용 - since 이후 삭제 표시된 게시글 ID (엔티티 조회에서는 삭제된 행이 제외되므로 네이티브 SQL)
+    @Query(value = "select id from post where deleted = true and deleted_at >= :since", nativeQuery = true)
+    List<Long> findIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    // 목록 ETag 용 (id, 수정 시각) - 목록 쿼리와 같은 조건/순서/인덱스로 두 컬럼만 조회
+    @Query("select new com.example.new_back_end.dto.PostStampDTO(p.id, p.updatedDate) " +
+            "from Post p order by p.createdDate desc, p.id desc")
+    List<PostStampDTO> findStampFirstPage(Pageable pageable);
+
+    @Query("select new com.example.new_back_end.dto.PostStampDTO(p.id, p.updatedDate) " +
+            "from Post p " +
+            "where p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) " +
+            "order by p.createdDate desc, p.id desc")
+    List<PostStampDTO> findStampPageAfter(@Param("createdDate") LocalDateTime createdDate,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("select new com.example.new_back_end.dto.PostStampDTO(p.id, p.updatedDate) " +
+            "from Post p where p.author = :author order by p.createdDate desc, p.id desc")
+    List<PostStampDTO> findStampByAuthorFirstPage(@Param("author") String author, Pageable pageable);
+
+    @Query("select new com.example.new_back_end.dto.PostStampDTO(p.id, p.updatedDate) " +
+            "from Post p " +
+            "where p.author = :author " +
+            "and p.createdDate <= :createdDate and (p.createdDate < :createdDate or p.id < :id) " +
+            "order by p.createdDate desc, p.id desc")
+    List<PostStampDTO> findStampByAuthorPageAfter(@Param("author") String author,
+                                                  @Param("createdDate") LocalDateTime createdDate,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // ID 목록으로 요약 조회 (검색 결과 표시용, 순서는 보장하지 않음)
+    @Query("select new com.example.new_back_end.dto.PostSummaryDTO(" +
+            "p.id, p.title, p.author, p.createdDate, p.updatedDate, p.viewCount) " +
+            "from Post p where p.id in :ids")
+    List<PostSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 부분 수정 - 전달된 필드만 한 번의 UPDATE 로 변경하고 버전이 일치할 때만 반영 (반영된 행 수 반환)
+    // 작성자를 바꾸는 경우에는 수정 전 작성자도 함께 받는 patchReturning(PostRepositoryCustom) 사용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set " +
+            "p.title = coalesce(:title, p.title), " +
+            "p.content = coalesce(:content, p.content), " +
+            "p.author = coalesce(:author, p.author), " +
+            "p.updatedDate = :updatedDate, " +
+            "p.version = p.version + 1 " +
+            "where p.id = :id and p.version = :version and p.deleted = false")
+    int patch(@Param("id") Long id,
+              @Param("version") Long version,
+              @Param("title") String title,
+              @Param("content") String content,
+              @Param("author") String author,
+              @Param("updatedDate") LocalDateTime updatedDate);
+
+    // 조건부 GET(ETag/Last-Modified) 판단용 수정 시각만 조회
+    @Query("select p.updatedDate from Post p where p.id = :id")
+    Optional<LocalDateTime> findUpdatedDateById(@Param("id") Long id);
 }
@@ -0,0 +1,33 @@
+package com.example.new_back_end.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 변경된 행의 값을 같은 UPDATE 문에서 돌려받는 쓰기 쿼리 (통계 갱신용, 별도 SELECT 없음)
+ * - PostgreSQL: update ... returning / H2: select ... from old table (update ...)
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 삭제 표시된 게시글
+     * @param viewCount 삭제 시점에 DB 에 반영되어 있던 조회수
+     */
+    record DeletedPost(Long id, String author, long viewCount) {
+    }
+
+    /**
+     * 수정 결과
+     * @param previousAuthor 수정 전 작성자
+     */
+    record PatchedPost(String previousAuthor) {
+    }
+
+    // 삭제 표시 (tombstone) - UPDATE 한 번으로 표시하고 실제 표시된 행의 작성자/조회수 반환
+    List<DeletedPost> softDeleteReturning(Collection<Long> ids, LocalDateTime deletedAt);
+
+    // 부분 수정 - PostRepository.patch 와 같은 조건으로 UPDATE 한 번에 반영하고 수정 전 작성자 반환 (반영되지 않으면 null)
+    PatchedPost patchReturning(Long id, Long version, String title, String content, String author,
+                               LocalDateTime updatedDate);
+}
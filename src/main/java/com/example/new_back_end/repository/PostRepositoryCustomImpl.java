@@ -0,0 +1,97 @@
+package com.example.new_back_end.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostRepositoryCustom 구현 (네이티브 SQL, 삭제 표시 조건은 직접 추가)
+ * - 실행 전 flush, 실행 후 clear 하여 @Modifying(flushAutomatically, clearAutomatically) 와 같게 동작
+ */
+class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    // PostgreSQL 은 RETURNING 으로 변경 후 값을 받으며, 작성자 변경 전 값은 잠근 행을 조인하여 받음
+    private static final String SOFT_DELETE_SQL =
+            "update post set deleted = true, deleted_at = :deletedAt " +
+            "where id in (:ids) and deleted = false " +
+            "returning id, author, view_count";
+
+    private static final String PATCH_SQL =
+            "update post p set " +
+            "title = coalesce(cast(:title as varchar(255)), p.title), " +
+            "content = coalesce(cast(:content as varchar(255)), p.content), " +
+            "author = coalesce(cast(:author as varchar(255)), p.author), " +
+            "updated_date = :updatedDate, " +
+            "version = p.version + 1 " +
+            "from (select id, author from post where id = :id for update) old " +
+            "where p.id = old.id and p.version = :version and p.deleted = false " +
+            "returning old.author";
+
+    // H2 는 RETURNING 대신 데이터 변경 델타 테이블(OLD TABLE = 변경 전 행)로 받음
+    private static final String H2_SOFT_DELETE_SQL =
+            "select id, author, view_count from old table (" +
+            "update post set deleted = true, deleted_at = :deletedAt " +
+            "where id in (:ids) and deleted = false)";
+
+    private static final String H2_PATCH_SQL =
+            "select author from old table (" +
+            "update post set " +
+            "title = coalesce(cast(:title as varchar(255)), title), " +
+            "content = coalesce(cast(:content as varchar(255)), content), " +
+            "author = coalesce(cast(:author as varchar(255)), author), " +
+            "updated_date = :updatedDate, " +
+            "version = version + 1 " +
+            "where id = :id and version = :version and deleted = false)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean h2;
+
+    PostRepositoryCustomImpl(@Value("${spring.datasource.url:}") String url) {
+        this.h2 = DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.H2;
+    }
+
+    @Override
+    public List<DeletedPost> softDeleteReturning(Collection<Long> ids, LocalDateTime deletedAt) {
+        entityManager.flush();
+        List<?> rows = entityManager.createNativeQuery(h2 ? H2_SOFT_DELETE_SQL : SOFT_DELETE_SQL)
+                .setParameter("ids", ids)
+                .setParameter("deletedAt", deletedAt)
+                .getResultList();
+        entityManager.clear();
+
+        List<DeletedPost> deleted = new ArrayList<DeletedPost>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            deleted.add(new DeletedPost(((Number) columns[0]).longValue(), (String) columns[1],
+                    ((Number) columns[2]).longValue()));
+        }
+        return deleted;
+    }
+
+    @Override
+    public PatchedPost patchReturning(Long id, Long version, String title, String content, String author,
+                                      LocalDateTime updatedDate) {
+        entityManager.flush();
+        // null 인 필드는 바꾸지 않으므로 타입을 지정하여 바인딩
+        List<?> rows = entityManager.createNativeQuery(h2 ? H2_PATCH_SQL : PATCH_SQL)
+                .unwrap(NativeQuery.class)
+                .setParameter("id", id)
+                .setParameter("version", version)
+                .setParameter("title", title, String.class)
+                .setParameter("content", content, String.class)
+                .setParameter("author", author, String.class)
+                .setParameter("updatedDate", updatedDate)
+                .getResultList();
+        entityManager.clear();
+        return rows.isEmpty() ? null : new PatchedPost((String) rows.get(0));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.new_back_end.repository;
+
+import com.example.new_back_end.entity.Post;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 논블로킹 조회 (R2DBC)
+ * - 조회 전용, 쓰기는 기존 JPA(PostRepository) 경로를 사용
+ * - 네이티브 SQL 이므로 삭제 표시된 게시글(deleted = true)은 직접 제외
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePostRepository {
+
+    private static final String COLUMNS =
+            "select id, title, content, author, created_date, updated_date, view_count, version from post ";
+
+    private final DatabaseClient databaseClient;
+
+    // 단건 조회, 없으면 빈 Mono
+    public Mono<Post> findById(Long id) {
+        return databaseClient.sql(COLUMNS + "where id = :id and deleted = false")
+                .bind("id", id)
+                .map(ReactivePostRepository::toPost)
+                .one();
+    }
+
+    // 최신순 목록, 구독자가 요청한 만큼씩 행을 받아옴 (backpressure)
+    public Flux<Post> findLatest(int limit) {
+        return databaseClient.sql(COLUMNS + "where deleted = false order by created_date desc, id desc limit :limit")
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toPost)
+                .all();
+    }
+
+    private static Post toPost(Readable row) {
+        Post post = new Post();
+        post.setId(row.get("id", Long.class));
+        post.setTitle(row.get("title", String.class));
+        post.setContent(row.get("content", String.class));
+        post.setAuthor(row.get("author", String.class));
+        post.setCreatedDate(row.get("created_date", LocalDateTime.class));
+        post.setUpdatedDate(row.get("updated_date", LocalDateTime.class));
+        Integer viewCount = row.get("view_count", Integer.class);
+        post.setViewCount(viewCount != null ? viewCount : 0);
+        post.setVersion(row.get("version", Long.class));
+        return post;
+    }
+}
@@ -0,0 +1,377 @@
+package com.example.new_back_end.search;
+
+import com.example.new_back_end.entity.Post;
+import com.example.new_back_end.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목/본문 전문 검색 인덱스 (Lucene 역색인, 인프로세스)
+ * - 한국어 형태소 분석기(Nori)로 제목/본문을 색인하고 BM25 점수 순으로 검색
+ * - PostService 의 생성/수정/삭제 시 커밋 후에 해당 문서만 증분 반영 (전체 재색인 없음)
+ * - 시작 시 재색인 중에 증분 반영된 게시글은 재색인이 먼저 읽은 오래된 행으로 덮어쓰지 않음
+ * - 변경 사항은 refresh-interval-ms 주기로 검색에 노출되고, commit-interval-ms 주기로 디스크에 커밋
+ * - search.index.path 를 비워 두면 메모리 인덱스를 사용하며, 시작 시 DB 에서 한 번 색인
+ * - 디스크 인덱스는 마지막으로 DB 와 맞춘 시각(synced-at)을 커밋 데이터에 저장하고, 시작 시 그 이후(CATCH_UP_OVERLAP 만큼 앞부터)
+ *   수정/삭제된 게시글만 다시 반영 (마지막 커밋 이후 비정상 종료로 잃은 변경과 다른 인스턴스에서 쓴 게시글 복구)
+ * - 맞춘 시각이 없거나 삭제 표시 보존 기간(post.purge.retention)보다 오래되어 삭제 여부를 알 수 없으면 전체 재색인하고,
+ *   재색인에서 다시 쓰지 않은 문서(DB 에 없는 게시글)는 제거
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    // 문서를 쓴 동기화 세대 (전체 재색인 후 이전 세대 문서를 지우는 데 사용)
+    private static final String FIELD_GENERATION = "generation";
+
+    // 커밋 데이터에 저장하는 마지막 DB 동기화 시각 (이 시각 이전의 DB 변경은 모두 색인에 반영됨)
+    private static final String COMMIT_SYNCED_AT = "syncedAt";
+
+    // 따라잡기 시 맞춘 시각보다 앞에서 시작하는 여유 (인스턴스 간 시계 차이, 늦게 커밋된 트랜잭션 포함)
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(5);
+
+    // 제목 일치에 본문보다 높은 가중치 부여
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration deletedRetention;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 재색인 중에 증분 반영된 게시글 ID (재색인 중이 아니면 null)
+    private volatile Set<Long> updatedDuringRebuild;
+
+    // 재색인 중 같은 게시글의 증분 반영/재색인 쓰기 순서를 보장
+    private final Object rebuildLock = new Object();
+
+    // 현재 문서에 기록하는 동기화 세대 (전체 재색인 시작 시 갱신)
+    private volatile long generation = System.currentTimeMillis();
+
+    /**
+     * 검색 결과 한 페이지
+     * @param ids 점수 순 게시글 ID
+     * @param totalHits 전체 일치 건수 (많은 경우 하한값)
+     */
+    public record SearchHits(List<Long> ids, long totalHits) {
+    }
+
+    public PostSearchIndex(PostRepository postRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${search.index.path:}") String indexPath,
+                           @Value("${post.purge.retention:1d}") Duration deletedRetention) throws IOException {
+        this.postRepository = postRepository;
+        this.deletedRetention = deletedRetention;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.analyzer = new KoreanAnalyzer();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 시작 후 백그라운드에서 DB 와 맞춤 (비어 있거나 오래된 인덱스는 전체 재색인, 아니면 마지막 동기화 이후 변경만 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeOnStartup() {
+        LocalDateTime syncedAt = lastSyncedAt();
+        Runnable task;
+        if (writer.getDocStats().numDocs == 0 || syncedAt == null
+                || syncedAt.isBefore(LocalDateTime.now().minus(deletedRetention))) {
+            task = this::rebuild;
+        } else {
+            task = () -> catchUp(syncedAt.minus(CATCH_UP_OVERLAP));
+        }
+        Thread builder = new Thread(task, "post-search-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    // 마지막 커밋의 DB 동기화 시각 (없으면 null)
+    private LocalDateTime lastSyncedAt() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (COMMIT_SYNCED_AT.equals(entry.getKey())) {
+                return LocalDateTime.parse(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    // 게시글 색인 (같은 ID 의 기존 문서는 교체)
+    public void index(Post post) {
+        Set<Long> updated = updatedDuringRebuild;
+        if (updated != null) {
+            synchronized (rebuildLock) {
+                updated.add(post.getId());
+                write(post);
+            }
+            return;
+        }
+        write(post);
+    }
+
+    private void write(Post post) {
+        try {
+            writer.updateDocument(new Term(FIELD_ID, String.valueOf(post.getId())), toDocument(post));
+        } catch (IOException e) {
+            log.warn("게시글 색인 실패: id={}, {}", post.getId(), e.getMessage());
+        }
+    }
+
+    // 게시글 색인 삭제
+    public void delete(Long id) {
+        Set<Long> updated = updatedDuringRebuild;
+        if (updated != null) {
+            synchronized (rebuildLock) {
+                updated.add(id);
+                remove(id);
+            }
+            return;
+        }
+        remove(id);
+    }
+
+    private void remove(Long id) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(id)));
+        } catch (IOException e) {
+            log.warn("게시글 색인 삭제 실패: id={}, {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 검색
+     * @param text 검색어 (형태소 분석 후 제목/본문에서 OR 검색)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     */
+    public SearchHits search(String text, int page, int size) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            // 분석 결과 검색할 토큰이 없는 경우 (조사/불용어만 입력 등)
+            return new SearchHits(Collections.emptyList(), 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (page + 1) * size);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+
+                List<Long> ids = new ArrayList<>(size);
+                for (int i = page * size; i < scoreDocs.length; i++) {
+                    Document document = searcher.storedFields().document(scoreDocs[i].doc, Set.of(FIELD_ID));
+                    ids.add(Long.parseLong(document.get(FIELD_ID)));
+                }
+                return new SearchHits(ids, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 현재 검색에 노출된 인덱스 버전 (문서 추가/수정/삭제가 반영(refresh)되면 바뀜, 검색 응답 ETag 용)
+    public long version() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return ((DirectoryReader) searcher.getIndexReader()).getVersion();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 최근 변경 사항을 검색에 노출
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    // 변경 사항을 디스크에 커밋 (메모리 인덱스는 의미 없지만 비용도 거의 없음)
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    // DB 의 모든 게시글을 다시 색인하고, 다시 쓰지 않은 이전 세대 문서(DB 에 없는 게시글)를 제거
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncedAt = LocalDateTime.now();
+        long rebuildGeneration = start;
+        generation = rebuildGeneration;
+        long count = applyFromDatabase(postRepository::streamAllByOrderById, List::of);
+        try {
+            BooleanQuery stale = new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                    .add(LongPoint.newRangeQuery(FIELD_GENERATION, rebuildGeneration, Long.MAX_VALUE),
+                            BooleanClause.Occur.MUST_NOT)
+                    .build();
+            writer.deleteDocuments(stale);
+        } catch (IOException e) {
+            log.warn("이전 검색 문서 삭제 실패: {}", e.getMessage());
+        }
+        commitSynced(syncedAt);
+        log.info("게시글 검색 인덱스 생성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    // since 이후 수정/생성된 게시글을 다시 색인하고 삭제 표시된 게시글을 제거
+    private void catchUp(LocalDateTime since) {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncedAt = LocalDateTime.now();
+        long count = applyFromDatabase(() -> postRepository.streamUpdatedSince(since),
+                () -> postRepository.findIdsDeletedSince(since));
+        commitSynced(syncedAt);
+        log.info("게시글 검색 인덱스 따라잡기 완료: {} 이후 {}건, {}ms", since, count, System.currentTimeMillis() - start);
+    }
+
+    // DB 에서 읽은 게시글을 스트리밍으로 색인하고(읽은 엔티티는 바로 detach) 삭제된 ID 를 제거
+    // 시작 이후 증분 반영된 게시글은 건너뜀 (스트림이 읽은 행보다 새 값이거나 이미 삭제됨)
+    private long applyFromDatabase(Supplier<Stream<Post>> postsToIndex, Supplier<List<Long>> idsToRemove) {
+        Set<Long> updated = ConcurrentHashMap.newKeySet();
+        updatedDuringRebuild = updated;
+        try {
+            return readOnlyTransaction.execute(status -> {
+                long applied = 0;
+                try (Stream<Post> posts = postsToIndex.get()) {
+                    for (Post post : (Iterable<Post>) posts::iterator) {
+                        synchronized (rebuildLock) {
+                            if (!updated.contains(post.getId())) {
+                                write(post);
+                                applied++;
+                            }
+                        }
+                        entityManager.detach(post);
+                    }
+                }
+                for (Long id : idsToRemove.get()) {
+                    synchronized (rebuildLock) {
+                        if (!updated.contains(id)) {
+                            remove(id);
+                            applied++;
+                        }
+                    }
+                }
+                return applied;
+            });
+        } finally {
+            updatedDuringRebuild = null;
+        }
+    }
+
+    // 동기화 시각을 커밋 데이터에 기록하고 커밋 (이후 주기적 커밋에도 같은 값이 유지됨)
+    private void commitSynced(LocalDateTime syncedAt) {
+        try {
+            writer.setLiveCommitData(Map.of(COMMIT_SYNCED_AT, syncedAt.toString()).entrySet());
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("검색 인덱스 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    private Query buildQuery(String text) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query titleQuery = builder.createBooleanQuery(FIELD_TITLE, text);
+        Query contentQuery = builder.createBooleanQuery(FIELD_CONTENT, text);
+        if (titleQuery == null && contentQuery == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (titleQuery != null) {
+            query.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (contentQuery != null) {
+            query.add(contentQuery, BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private Document toDocument(Post post) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(post.getId()), Field.Store.YES));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        if (post.getTitle() != null) {
+            document.add(new TextField(FIELD_TITLE, post.getTitle(), Field.Store.NO));
+        }
+        if (post.getContent() != null) {
+            document.add(new TextField(FIELD_CONTENT, post.getContent(), Field.Store.NO));
+        }
+        return document;
+    }
+}
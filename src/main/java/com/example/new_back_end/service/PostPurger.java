@@ -0,0 +1,99 @@
+package com.example.new_back_end.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 삭제 표시된 게시글 물리 삭제 (백그라운드)
+ * - 요청 경로에서는 삭제 표시(UPDATE)만 하고, 실제 DELETE 는 한산한 시간대(cron)에 모아서 처리
+ * - 보존 기간(retention)이 지난 행만 batch-size 건씩 나눠 삭제하여 한 트랜잭션의 잠금/WAL 크기를 제한
+ * - 한 번 실행에서 max-batches 번까지만 삭제하고, 남은 행은 다음 실행에서 이어서 처리
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "post.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class PostPurger {
+
+    // 오래된 삭제 표시 행을 ID 순으로 batch-size 건만 골라 삭제 (PostgreSQL / H2 공통 문법)
+    private static final String PURGE_SQL =
+            "delete from post where id in (" +
+            "select id from post where deleted = true and deleted_at < ? order by id limit ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+
+    // 퍼지는 한 번에 하나만 수행
+    private final ReentrantLock purgeLock = new ReentrantLock();
+
+    public PostPurger(JdbcTemplate jdbcTemplate,
+                      @Value("${post.purge.retention:1d}") Duration retention,
+                      @Value("${post.purge.batch-size:1000}") int batchSize,
+                      @Value("${post.purge.max-batches:100}") int maxBatches,
+                      @Value("${post.purge.pause-ms:100}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // 한산한 시간대에 주기적으로 실행 (기본: 매일 03~05시, 10분마다)
+    @Scheduled(cron = "${post.purge.cron:0 */10 3-5 * * *}")
+    public void purge() {
+        if (!purgeLock.tryLock()) {
+            return;
+        }
+        try {
+            int purged = purgeExpired(LocalDateTime.now().minus(retention));
+            if (purged > 0) {
+                log.info("삭제 표시된 게시글 {}건 물리 삭제", purged);
+            }
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    // cutoff 이전에 삭제 표시된 행을 batch 단위로 삭제하고 삭제한 행 수 반환
+    // 각 DELETE 는 별도 트랜잭션(auto-commit)으로 실행되어 잠금을 짧게 유지
+    int purgeExpired(LocalDateTime cutoff) {
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = jdbcTemplate.update(PURGE_SQL, cutoffTimestamp, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+            // 다른 요청이 DB 를 사용할 수 있도록 batch 사이에 잠시 쉼
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
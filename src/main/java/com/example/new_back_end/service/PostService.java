@@ -1,39 +1,302 @@
 package com.example.new_back_end.service;
 
+import com.example.new_back_end.cache.PostCache;
+import com.example.new_back_end.cache.PostResponseCache;
+import com.example.new_back_end.dto.BatchCreateResponseDTO;
+import com.example.new_back_end.dto.BulkDeleteResponseDTO;
+import com.example.new_back_end.dto.CursorPageDTO;
+import com.example.new_back_end.dto.PostPatchRequestDTO;
+import com.example.new_back_end.dto.PostSearchResponseDTO;
+import com.example.new_back_end.dto.PostStampDTO;
+import com.example.new_back_end.dto.PostSummaryDTO;
 import com.example.new_back_end.dto.RequestDTO;
 import com.example.new_back_end.dto.ResponseDTO;
 import com.example.new_back_end.entity.Post;
 import com.example.new_back_end.repository.PostRepository;
-import lombok.AllArgsConstructor;
+import com.example.new_back_end.repository.PostRepositoryCustom;
+import com.example.new_back_end.search.PostSearchIndex;
+import com.example.new_back_end.util.CursorCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class PostService {
+    /**
+     * 조건부 GET 에 사용하는 게시글 버전
+     * @param eTag 약한 ETag (조회수는 포함하지 않으므로 W/ 접두사 사용)
+     * @param lastModified 마지막 수정 시각 (epoch millis)
+     */
+    public record PostVersion(String eTag, long lastModified) {
+    }
+
     private final PostRepository postRepository;
+    private final ViewCountService viewCountService;
+    private final PostCache postCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostSearchIndex postSearchIndex;
+    private final PostResponseCache postResponseCache;
+    private final PostStatisticsService postStatisticsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 커서 페이지 기본/최대 크기
+    @Value("${post.page.default-limit:20}")
+    private int defaultPageLimit;
+
+    @Value("${post.page.max-limit:100}")
+    private int maxPageLimit;
+
+    // 일괄 생성 시 한 트랜잭션에서 처리할 건수 / 한 요청의 최대 건수
+    @Value("${post.batch.chunk-size:1000}")
+    private int batchChunkSize;
+
+    @Value("${post.batch.max-size:50000}")
+    private int batchMaxSize;
+
+    // 일괄 삭제 한 요청의 최대 건수
+    @Value("${post.delete.bulk-max-size:1000}")
+    private int bulkDeleteMaxSize;
+
+    // 내보내기 시 출력 스트림을 flush 하는 간격(건)
+    @Value("${post.export.flush-every:500}")
+    private int exportFlushEvery;
+
+    // 검색 결과 최대 깊이 (page * size), 깊은 페이지일수록 정렬 비용이 커지므로 제한
+    @Value("${search.max-result-window:1000}")
+    private int searchMaxResultWindow;
+
+    // 전체 조회(레거시) 시 최대 반환 건수, 0 이하이면 제한 없음(opt-in)
+    @Value("${post.list.legacy-max-size:1000}")
+    private int legacyMaxSize;
 
     // 게시글 생성
     public ResponseDTO create(RequestDTO requestDTO) {
         Post post = toEntity(requestDTO);
         Post createPost = postRepository.save(post);
+        afterCommit(() -> {
+            postSearchIndex.index(createPost);
+            postStatisticsService.postCreated(createPost.getAuthor());
+        });
         return toDTO(createPost);
     }
 
-    // 게시글 조회(단일)
+    // 게시글 일괄 생성 - chunk-size 단위 트랜잭션으로 나누어 JDBC 배치 INSERT
+    public BatchCreateResponseDTO createAll(List<RequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new IllegalArgumentException("생성할 게시글이 없습니다.");
+        }
+        if (requestDTOs.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 게시글은 최대 " + batchMaxSize + "건입니다.");
+        }
+
+        List<Long> ids = new ArrayList<Long>(requestDTOs.size());
+        for (int from = 0; from < requestDTOs.size(); from += batchChunkSize) {
+            List<RequestDTO> chunk = requestDTOs.subList(from, Math.min(from + batchChunkSize, requestDTOs.size()));
+            ids.addAll(transactionTemplate.execute(status -> insertChunk(chunk)));
+        }
+
+        BatchCreateResponseDTO response = new BatchCreateResponseDTO();
+        response.setCount(ids.size());
+        response.setIds(ids);
+        return response;
+    }
+
+    // 한 트랜잭션 안에서 chunk 를 저장하고, flush 후 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+    // 검색 색인/통계는 커밋 후 반영 (롤백된 chunk 가 검색 결과에 남지 않도록)
+    private List<Long> insertChunk(List<RequestDTO> chunk) {
+        List<Post> posts = new ArrayList<Post>(chunk.size());
+        for (RequestDTO requestDTO : chunk) {
+            Post post = toEntity(requestDTO);
+            entityManager.persist(post);
+            posts.add(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        afterCommit(() -> {
+            for (Post post : posts) {
+                postSearchIndex.index(post);
+                postStatisticsService.postCreated(post.getAuthor());
+            }
+        });
+
+        List<Long> ids = new ArrayList<Long>(posts.size());
+        for (Post post : posts) {
+            ids.add(post.getId());
+        }
+        return ids;
+    }
+
+    // 게시글 조회(단일) - 캐시를 거쳐 조회하고, 조회수는 메모리에 누적한 뒤 아직 반영되지 않은 증가분을 더해 응답
+    @Transactional(readOnly = true)
     public ResponseDTO read(Long id) {
-        Post readPost = postRepository.findById(id).orElse(null);
+        Post readPost = postCache.get(id);
         if (readPost == null) {
             return null;
         }
-        return toDTO(readPost);
+        viewCountService.increment(id);
+
+        ResponseDTO dto = toDTO(readPost);
+        dto.setViewCount(currentViewCount(id, readPost));
+        return dto;
+    }
+
+    // 게시글 조회(단일, 직렬화된 응답) - 응답 바이트 캐시를 거쳐 매핑/직렬화/압축 없이 반환 (게시글이 없으면 null)
+    // 캐시된 본문의 조회수는 post.response-cache.expire-after-write 만큼 늦게 반영될 수 있음
+    @Transactional(readOnly = true)
+    public PostResponseCache.CachedBody readSerialized(Long id) {
+        PostResponseCache.CachedBody body = postResponseCache.get(id, this::serialize);
+        if (body == null) {
+            return null;
+        }
+        viewCountService.increment(id);
+        return body;
     }
 
-    // 게시글 조회(전체)
-    public List<ResponseDTO> readAll() {
-        List<Post> posts = postRepository.findAll();
+    // 응답 바이트 캐시 미스 시 게시글을 JSON 으로 직렬화
+    private byte[] serialize(Long id) {
+        Post post = postCache.get(id);
+        if (post == null) {
+            return null;
+        }
+        ResponseDTO dto = toDTO(post);
+        dto.setViewCount(currentViewCount(id, post));
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 캐시된 게시글의 조회수 + 로딩 이후 DB 에 반영된 증가분 + 아직 반영되지 않은 증가분
+    private int currentViewCount(Long id, Post cached) {
+        return cached.getViewCount()
+                + (int) postCache.flushedViews(id, cached)
+                + (int) viewCountService.pendingCount(id);
+    }
+
+    // 게시글 버전 조회 - 캐시에 있으면 DB 접근 없이, 없으면 수정 시각 컬럼만 조회 (게시글이 없으면 null)
+    public PostVersion getVersion(Long id) {
+        Post cached = postCache.getIfPresent(id);
+        LocalDateTime updatedDate = cached != null
+                ? cached.getUpdatedDate()
+                : postRepository.findUpdatedDateById(id).orElse(null);
+        if (updatedDate == null) {
+            return null;
+        }
+        return versionOf(id, updatedDate);
+    }
+
+    // id + 수정 시각(마이크로초)으로 ETag / Last-Modified 생성
+    private PostVersion versionOf(Long id, LocalDateTime updatedDate) {
+        String eTag = "W/\"" + id + "-" + Long.toHexString(toMicros(updatedDate)) + "\"";
+        long lastModified = updatedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new PostVersion(eTag, lastModified);
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    // 목록(레거시 전체 조회) ETag - readAll 과 같은 조건/건수로 (id, 수정 시각)만 조회하여 생성
+    public String getListVersion(String author) {
+        Pageable pageable = legacyMaxSize > 0 ? PageRequest.of(0, legacyMaxSize) : Pageable.unpaged();
+        List<PostStampDTO> stamps = author != null && !author.isBlank()
+                ? postRepository.findStampByAuthorFirstPage(author, pageable)
+                : postRepository.findStampFirstPage(pageable);
+        return listETag(stamps);
+    }
+
+    // 커서 페이지(전체/요약) ETag - readPage / readSummaryPage 와 같은 조건으로 size + 1 건의 (id, 수정 시각)만 조회하여 생성
+    // (다음 페이지 존재 여부와 next 커서도 이 행들로 정해지므로 함께 반영됨)
+    public String getPageVersion(String cursor, Integer limit, String author) {
+        int size = resolveLimit(limit);
+        boolean byAuthor = author != null && !author.isBlank();
+
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        List<PostStampDTO> stamps;
+        if (cursor == null || cursor.isBlank()) {
+            stamps = byAuthor
+                    ? postRepository.findStampByAuthorFirstPage(author, pageRequest)
+                    : postRepository.findStampFirstPage(pageRequest);
+        } else {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            stamps = byAuthor
+                    ? postRepository.findStampByAuthorPageAfter(author, position.createdDate(), position.id(), pageRequest)
+                    : postRepository.findStampPageAfter(position.createdDate(), position.id(), pageRequest);
+        }
+        return listETag(stamps);
+    }
+
+    // 검색 ETag - 검색 인덱스 버전 기준 (게시글 수정/삭제는 색인에도 반영되므로 인덱스가 갱신되면 바뀜, DB 조회 없음)
+    public String getSearchVersion(String query, int page, int size) {
+        int pageSize = resolveSearchSize(query, page, size);
+        String source = query + "\n" + page + "\n" + pageSize + "\n" + postSearchIndex.version();
+        return "W/\"s-" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 목록 행들의 (id, 수정 시각) 해시로 약한 ETag 생성
+    // - 조회수는 포함하지 않음 (단건 조회 ETag 와 같은 기준)
+    // - 본문보다 먼저 조회하므로 그 사이 변경되더라도 본문이 ETag 보다 새로울 뿐, 오래된 본문이 새 ETag 로 나가지 않음
+    private static String listETag(List<PostStampDTO> stamps) {
+        StringBuilder source = new StringBuilder(stamps.size() * 24);
+        for (PostStampDTO stamp : stamps) {
+            source.append(stamp.getId()).append(':').append(Long.toHexString(toMicros(stamp.getUpdatedDate()))).append(',');
+        }
+        return "W/\"l-" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 게시글 조회(전체) - 레거시 모드, 최신순으로 legacyMaxSize 건까지만 반환 (author 가 있으면 해당 작성자의 게시글만)
+    @Transactional(readOnly = true)
+    public List<ResponseDTO> readAll(String author) {
+        List<Post> posts;
+        if (author != null && !author.isBlank()) {
+            Pageable pageable = legacyMaxSize > 0 ? PageRequest.of(0, legacyMaxSize) : Pageable.unpaged();
+            posts = postRepository.findByAuthorFirstPage(author, pageable);
+        } else if (legacyMaxSize > 0) {
+            posts = postRepository.findAll(PageRequest.of(0, legacyMaxSize,
+                    Sort.by(Sort.Order.desc("createdDate"), Sort.Order.desc("id")))).getContent();
+        } else {
+            posts = postRepository.findAll();
+        }
         List<ResponseDTO> result = new ArrayList<ResponseDTO>();
         for (Post post : posts) {
             ResponseDTO dto = toDTO(post);
@@ -42,21 +305,287 @@ public class PostService {
         return result;
     }
 
-    // 게시글 수정
+    // 게시글 조회(커서 페이지) - (createdDate, id) 기준 키셋 페이지네이션 (author 가 있으면 해당 작성자의 게시글만)
+    public CursorPageDTO<ResponseDTO> readPage(String cursor, Integer limit, String author) {
+        int size = resolveLimit(limit);
+        boolean byAuthor = author != null && !author.isBlank();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = byAuthor
+                    ? postRepository.findByAuthorFirstPage(author, pageRequest)
+                    : postRepository.findFirstPage(pageRequest);
+        } else {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            posts = byAuthor
+                    ? postRepository.findByAuthorPageAfter(author, position.createdDate(), position.id(), pageRequest)
+                    : postRepository.findPageAfter(position.createdDate(), position.id(), pageRequest);
+        }
+
+        return toCursorPage(posts, size, this::toDTO,
+                post -> CursorCodec.encode(post.getCreatedDate(), post.getId()));
+    }
+
+    // 게시글 요약 조회(커서 페이지) - content 를 조회하지 않는 프로젝션 쿼리 사용 (author 가 있으면 해당 작성자의 게시글만)
+    public CursorPageDTO<PostSummaryDTO> readSummaryPage(String cursor, Integer limit, String author) {
+        int size = resolveLimit(limit);
+        boolean byAuthor = author != null && !author.isBlank();
+
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        List<PostSummaryDTO> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = byAuthor
+                    ? postRepository.findSummaryByAuthorFirstPage(author, pageRequest)
+                    : postRepository.findSummaryFirstPage(pageRequest);
+        } else {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            summaries = byAuthor
+                    ? postRepository.findSummaryByAuthorPageAfter(author, position.createdDate(), position.id(), pageRequest)
+                    : postRepository.findSummaryPageAfter(position.createdDate(), position.id(), pageRequest);
+        }
+
+        return toCursorPage(summaries, size, Function.identity(),
+                summary -> CursorCodec.encode(summary.getCreatedDate(), summary.getId()));
+    }
+
+    // 게시글 검색 - 검색 인덱스에서 점수 순 ID 를 구한 뒤 요약 정보만 한 번에 조회
+    public PostSearchResponseDTO search(String query, int page, int size) {
+        int pageSize = resolveSearchSize(query, page, size);
+
+        PostSearchIndex.SearchHits hits = postSearchIndex.search(query, page, pageSize);
+
+        // IN 조회 결과를 검색 점수 순서로 재정렬 (그 사이 삭제된 게시글은 제외)
+        Map<Long, PostSummaryDTO> summaries = new HashMap<Long, PostSummaryDTO>();
+        if (!hits.ids().isEmpty()) {
+            summaries = postRepository.findSummariesByIdIn(hits.ids()).stream()
+                    .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()));
+        }
+        List<PostSummaryDTO> items = new ArrayList<PostSummaryDTO>(hits.ids().size());
+        for (Long id : hits.ids()) {
+            PostSummaryDTO summary = summaries.get(id);
+            if (summary != null) {
+                items.add(summary);
+            }
+        }
+
+        PostSearchResponseDTO response = new PostSearchResponseDTO();
+        response.setItems(items);
+        response.setTotalHits(hits.totalHits());
+        response.setPage(page);
+        response.setSize(pageSize);
+        return response;
+    }
+
+    // 검색 조건 검사 후 페이지 크기 반환
+    private int resolveSearchSize(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("page 는 0 이상이어야 합니다.");
+        }
+        int pageSize = resolveLimit(size);
+        if ((long) (page + 1) * pageSize > searchMaxResultWindow) {
+            throw new IllegalArgumentException("검색 결과는 최대 " + searchMaxResultWindow + "건까지 조회할 수 있습니다.");
+        }
+        return pageSize;
+    }
+
+    // size + 1 건 조회 결과를 페이지로 변환 (초과분이 있으면 마지막 항목 기준으로 next 커서 생성)
+    private <E, T> CursorPageDTO<T> toCursorPage(List<E> rows, int size,
+                                                 Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        int count = Math.min(rows.size(), size);
+
+        List<T> items = new ArrayList<T>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(mapper.apply(rows.get(i)));
+        }
+
+        CursorPageDTO<T> page = new CursorPageDTO<>();
+        page.setItems(items);
+        if (hasNext) {
+            page.setNext(cursorOf.apply(rows.get(size - 1)));
+        }
+        return page;
+    }
+
+    // 게시글 전체 내보내기 - 한 건씩 NDJSON(한 줄에 JSON 하나)으로 출력 스트림에 바로 기록
+    // 읽은 엔티티는 즉시 detach 하여 게시글 수와 관계없이 힙 사용량을 일정하게 유지
+    @Transactional(readOnly = true)
+    public void exportNdjson(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ResponseDTO.class);
+
+        // 응답 헤더를 먼저 내보내 클라이언트가 바로 수신을 시작하도록 함
+        outputStream.flush();
+
+        try (Stream<Post> posts = postRepository.streamAllByOrderById()) {
+            Iterator<Post> iterator = posts.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                outputStream.write(writer.writeValueAsBytes(toDTO(post)));
+                outputStream.write('\n');
+                entityManager.detach(post);
+
+                // 첫 건은 바로 보내고, 이후에는 flush-every 건마다 전송
+                if (++count == 1 || count % exportFlushEvery == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+    }
+
+    // 요청된 limit 을 [1, maxPageLimit] 범위로 보정
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageLimit;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, maxPageLimit);
+    }
+
+    // 게시글 수정 (전체 필드)
     public ResponseDTO update(Long id, RequestDTO requestDTO) {
-        Post post = postRepository.findById(id).orElse(null);
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
+        String previousAuthor = post.getAuthor();
         post.setTitle(requestDTO.getTitle());
         post.setContent(requestDTO.getContent());
         post.setAuthor(requestDTO.getAuthor());
 
         Post updatedPost = postRepository.save(post);
+        afterCommit(() -> invalidateCaches(id));
+        afterCommit(() -> postSearchIndex.index(updatedPost));
+        String currentAuthor = updatedPost.getAuthor();
+        afterCommit(() -> postStatisticsService.authorChanged(previousAuthor, currentAuthor));
         return toDTO(updatedPost);
     }
-    // 게시글 삭제
+    /**
+     * 게시글 부분 수정 - 전달된 필드만 UPDATE 한 번으로 반영 (SELECT 없음)
+     * - 요청의 version 이 현재 버전과 같을 때만 반영하고 버전을 1 증가
+     * - 반영되지 않으면 존재 여부로 404 / 409 를 구분 (실패 시에만 추가 조회)
+     * - 제목/본문이 바뀐 경우에만 검색 색인 갱신을 위해 게시글을 다시 읽음
+     * - 작성자를 바꾸는 경우에는 작성자별 통계 갱신을 위해 같은 UPDATE 문에서 수정 전 작성자를 함께 받음
+     * @return 수정 후 게시글 버전 (ETag)
+     */
+    @Transactional
+    public PostVersion patch(Long id, PostPatchRequestDTO patchDTO) {
+        if (patchDTO.getVersion() == null) {
+            throw new IllegalArgumentException("version 은 필수입니다.");
+        }
+        if (patchDTO.getTitle() == null && patchDTO.getContent() == null && patchDTO.getAuthor() == null) {
+            throw new IllegalArgumentException("수정할 필드가 없습니다.");
+        }
+
+        // DB 의 timestamp(6) 정밀도에 맞춰 ETag 가 이후 조회 결과와 일치하도록 함
+        LocalDateTime updatedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        PostRepositoryCustom.PatchedPost patched = null;
+        boolean updated;
+        if (patchDTO.getAuthor() != null) {
+            patched = postRepository.patchReturning(id, patchDTO.getVersion(),
+                    patchDTO.getTitle(), patchDTO.getContent(), patchDTO.getAuthor(), updatedDate);
+            updated = patched != null;
+        } else {
+            updated = postRepository.patch(id, patchDTO.getVersion(),
+                    patchDTO.getTitle(), patchDTO.getContent(), null, updatedDate) > 0;
+        }
+        if (!updated) {
+            if (!postRepository.existsById(id)) {
+                throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+            }
+            throw new OptimisticLockingFailureException("다른 사용자가 먼저 게시글을 수정했습니다. 다시 조회 후 수정해 주세요.");
+        }
 
+        afterCommit(() -> invalidateCaches(id));
+        if (patchDTO.getTitle() != null || patchDTO.getContent() != null) {
+            // 트랜잭션 안에서 수정된 행을 읽어 두고 색인은 커밋 후에 반영
+            Post reindexed = postRepository.findById(id).orElse(null);
+            if (reindexed != null) {
+                afterCommit(() -> postSearchIndex.index(reindexed));
+            }
+        }
+        if (patched != null) {
+            String previousAuthor = patched.previousAuthor();
+            String currentAuthor = patchDTO.getAuthor();
+            afterCommit(() -> postStatisticsService.authorChanged(previousAuthor, currentAuthor));
+        }
+        return versionOf(id, updatedDate);
+    }
+
+    // 게시글 삭제 - 삭제 표시만 하고 물리 삭제는 PostPurger 가 처리 (게시글이 없으면 EntityNotFoundException)
+    @Transactional
     public void delete(Long id) {
-        postRepository.deleteById(id);
+        if (softDelete(List.of(id)) == 0) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+    }
+
+    // 게시글 일괄 삭제 - ID 목록을 UPDATE 한 번으로 삭제 표시
+    @Transactional
+    public BulkDeleteResponseDTO deleteAll(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("삭제할 게시글 ID 가 없습니다.");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<Long>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > bulkDeleteMaxSize) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 게시글은 최대 " + bulkDeleteMaxSize + "건입니다.");
+        }
+
+        BulkDeleteResponseDTO response = new BulkDeleteResponseDTO();
+        response.setRequested(distinctIds.size());
+        response.setDeleted(distinctIds.isEmpty() ? 0 : softDelete(distinctIds));
+        return response;
+    }
+
+    // 삭제 표시 후 캐시/검색 색인에서 제거하고 통계에서 제외
+    // 통계용 작성자/조회수는 삭제 표시한 UPDATE 문에서 함께 받음 (별도 SELECT 없음, 실제 표시된 행만 반영)
+    // 통계는 커밋 후에 반영하여 롤백 시 값이 틀어지지 않도록 함
+    private int softDelete(Collection<Long> ids) {
+        List<PostRepositoryCustom.DeletedPost> deleted = postRepository.softDeleteReturning(ids, LocalDateTime.now());
+        // 커밋 전에 비우면 동시에 들어온 조회가 삭제 전 행을 다시 캐시에 올림
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(() -> {
+            for (Long id : removed) {
+                invalidateCaches(id);
+                postSearchIndex.delete(id);
+            }
+        });
+        afterCommit(() -> {
+            for (PostRepositoryCustom.DeletedPost post : deleted) {
+                viewCountService.discard(post.id());
+                postStatisticsService.postDeleted(post.author(), post.viewCount());
+            }
+        });
+        return deleted.size();
+    }
+
+    // 게시글 캐시/응답 바이트 캐시 무효화
+    private void invalidateCaches(Long id) {
+        postCache.invalidate(id);
+        postResponseCache.invalidate(id);
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 바로 실행)
+    // 커밋 전에 캐시를 비우면 동시에 들어온 조회가 커밋 전 행을 다시 캐시에 올릴 수 있음
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     // entity -> dto
@@ -69,6 +598,7 @@ public class PostService {
         dto.setCreatedDate(post.getCreatedDate());
         dto.setUpdatedDate(post.getUpdatedDate());
         dto.setViewCount(post.getViewCount());
+        dto.setVersion(post.getVersion());
         return dto;
     }
 
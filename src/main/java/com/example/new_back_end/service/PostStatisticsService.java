@@ -0,0 +1,239 @@
+package com.example.new_back_end.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시판 통계 (전체 게시글 수, 작성자별 게시글 수, 전체 조회수) 메모리 집계
+ * - 값 = 마지막 DB 집계(Snapshot, 불변) + 그 이후의 증감(Deltas, LongAdder)
+ * - 생성/삭제/작성자 변경은 커밋 후(PostService), 조회수는 ViewCountService 가 DB 에 반영한 뒤 Deltas 만 증감하여
+ *   쓰기 경합이 없고, 조회는 volatile 상태 하나를 읽어 DB 접근 없이 합산
+ * - 시작 시 GROUP BY 집계 쿼리 한 번으로 초기값을 채우고, 주기적으로 같은 쿼리로 Snapshot 을 교체하여 누적 오차를 보정
+ * - 보정 시에는 쿼리 직전에 새 Deltas 로 바꾼 뒤 집계하고, 집계가 끝나면 이전 Deltas 를 버림
+ *   (쿼리 중에는 이전 Deltas 도 합산하여 값이 잠시 빠지지 않도록 함, 교체와 쿼리 시작 사이에 커밋된 증감만 한 번 더 셀 수 있음)
+ * - 작성자 순위는 보정 시점에 상위 TOP_AUTHORS_SIZE 명만 정렬해 두고, 요청 시에는 그 작성자들의 현재 값으로만 다시 정렬
+ * - 집계 대상은 삭제 표시되지 않은 게시글
+ * - 조회수 = DB 집계 + 이후 DB 에 반영된 증가분(Deltas) + 아직 반영되지 않은 증가분(ViewCountService, 조회 시점 값)
+ *   보정은 조회수 flush 를 멈춘 상태에서 하므로 집계 중 DB 의 조회수가 바뀌지 않고, 집계 중 들어온 조회는 대기 중인 증가분으로만 셈
+ */
+@Slf4j
+@Service
+public class PostStatisticsService {
+
+    // 작성자 순위로 유지하는 최대 인원
+    public static final int TOP_AUTHORS_SIZE = 100;
+
+    private static final String AGGREGATE_SQL =
+            "select author, count(*), coalesce(sum(view_count), 0) from post where deleted = false group by author";
+
+    // ConcurrentHashMap 은 null 키를 허용하지 않으므로 작성자가 없는 게시글은 빈 문자열로 집계
+    private static final String NO_AUTHOR = "";
+
+    /**
+     * 마지막 DB 집계 결과 (불변)
+     * @param topAuthors 게시글 수 상위 작성자 (보정 시점 기준, 최대 TOP_AUTHORS_SIZE 명)
+     * @param reconciledAt 집계 시각 (초기 집계 전이면 null)
+     */
+    private record Snapshot(long posts, long views, Map<String, Long> postsByAuthor,
+                            List<String> topAuthors, LocalDateTime reconciledAt) {
+    }
+
+    // 마지막 집계 이후의 증감
+    private static final class Deltas {
+        private final LongAdder posts = new LongAdder();
+        private final LongAdder views = new LongAdder();
+        private final ConcurrentHashMap<String, LongAdder> postsByAuthor = new ConcurrentHashMap<>();
+
+        private LongAdder counter(String author) {
+            return postsByAuthor.computeIfAbsent(keyOf(author), key -> new LongAdder());
+        }
+
+        private long count(String author) {
+            LongAdder adder = postsByAuthor.get(keyOf(author));
+            return adder == null ? 0 : adder.sum();
+        }
+    }
+
+    /**
+     * 조회/갱신에 사용하는 상태 (한 번의 volatile 읽기로 일관된 값을 얻도록 묶음)
+     * @param previous 보정 쿼리 실행 중에만 존재하는 이전 증감 (쿼리가 끝나면 새 Snapshot 에 포함되므로 버림)
+     */
+    private record State(Snapshot base, Deltas previous, Deltas current) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewCountService viewCountService;
+
+    private volatile State state = new State(new Snapshot(0, 0, Map.of(), List.of(), null), null, new Deltas());
+
+    // 보정은 한 번에 하나만 수행
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    // ViewCountService 가 flush 시 이 서비스를 호출하므로 순환 참조를 피하기 위해 지연 주입
+    public PostStatisticsService(JdbcTemplate jdbcTemplate, @Lazy ViewCountService viewCountService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.viewCountService = viewCountService;
+    }
+
+    // 게시글 생성 (커밋 후 호출)
+    public void postCreated(String author) {
+        Deltas deltas = state.current();
+        deltas.posts.increment();
+        deltas.counter(author).increment();
+    }
+
+    // 게시글 삭제 (커밋 후 호출, 삭제된 게시글의 DB 조회수도 전체 조회수에서 제외, 대기 중인 증가분은 ViewCountService 가 버림)
+    public void postDeleted(String author, long viewCount) {
+        Deltas deltas = state.current();
+        deltas.posts.decrement();
+        deltas.counter(author).decrement();
+        deltas.views.add(-viewCount);
+    }
+
+    // 게시글 작성자 변경 (커밋 후 호출)
+    public void authorChanged(String from, String to) {
+        if (keyOf(from).equals(keyOf(to))) {
+            return;
+        }
+        Deltas deltas = state.current();
+        deltas.counter(from).decrement();
+        deltas.counter(to).increment();
+    }
+
+    // 조회수 증가분이 DB 에 반영됨 (ViewCountService flush 후 호출)
+    public void viewsFlushed(long delta) {
+        state.current().views.add(delta);
+    }
+
+    public long totalPosts() {
+        State current = state;
+        long posts = current.base().posts() + current.current().posts.sum();
+        if (current.previous() != null) {
+            posts += current.previous().posts.sum();
+        }
+        return posts;
+    }
+
+    public long totalViews() {
+        State current = state;
+        long views = current.base().views() + current.current().views.sum() + viewCountService.pendingTotal();
+        if (current.previous() != null) {
+            views += current.previous().views.sum();
+        }
+        return views;
+    }
+
+    // 작성자별 게시글 수 (집계된 적 없는 작성자는 0)
+    public long postCount(String author) {
+        return postCount(state, author);
+    }
+
+    // 게시글 수가 많은 작성자 순으로 최대 limit 명 (마지막 보정 시점의 상위 작성자 중 현재 게시글이 있는 작성자)
+    public Map<String, Long> topAuthors(int limit) {
+        State current = state;
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        current.base().topAuthors().stream()
+                .map(author -> Map.entry(author, postCount(current, author)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    public LocalDateTime reconciledAt() {
+        return state.base().reconciledAt();
+    }
+
+    // 시작 시 초기 집계
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        log.info("게시판 통계 초기 집계 완료: 게시글 {}건, 조회수 {}", totalPosts(), totalViews());
+    }
+
+    // 주기적으로 DB 집계로 Snapshot 을 교체하여 누적 오차 보정
+    @Scheduled(initialDelayString = "${post.stats.reconcile-interval-ms:600000}",
+            fixedDelayString = "${post.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!reconcileLock.tryLock()) {
+            return;
+        }
+        try {
+            viewCountService.whileFlushPaused(this::doReconcile);
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void doReconcile() {
+        // 1. 이후의 증감은 새 Deltas 에 누적 (쿼리 중에는 이전 Deltas 도 계속 합산)
+        State before = state;
+        state = new State(before.base(), before.current(), new Deltas());
+
+        // 2. 집계 쿼리 한 번 (post 테이블 한 번 스캔)
+        Map<String, Long> postsByAuthor = new HashMap<String, Long>();
+        long[] totals = new long[2];
+        try {
+            jdbcTemplate.query(AGGREGATE_SQL, rs -> {
+                long count = rs.getLong(2);
+                postsByAuthor.merge(keyOf(rs.getString(1)), count, Long::sum);
+                totals[0] += count;
+                totals[1] += rs.getLong(3);
+            });
+        } catch (RuntimeException e) {
+            // 집계 실패 시 이전 증감을 새 Deltas 로 합쳐 값을 유지하고 다음 주기에 재시도
+            restore(before.current());
+            throw e;
+        }
+
+        // 3. 상위 작성자는 여기서 한 번만 정렬해 둠
+        List<String> topAuthors = postsByAuthor.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(TOP_AUTHORS_SIZE)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // 4. 새 Snapshot 으로 교체하고 이전 Deltas 는 버림 (집계에 이미 포함)
+        Snapshot snapshot = new Snapshot(totals[0], totals[1], Map.copyOf(postsByAuthor), topAuthors, LocalDateTime.now());
+        state = new State(snapshot, null, state.current());
+    }
+
+    // 보정 실패 시 이전 Deltas 를 현재 Deltas 에 합치고 이전 Snapshot 으로 되돌림
+    private void restore(Deltas previous) {
+        Deltas current = state.current();
+        current.posts.add(previous.posts.sum());
+        current.views.add(previous.views.sum());
+        previous.postsByAuthor.forEach((author, adder) -> current.counter(author).add(adder.sum()));
+        state = new State(state.base(), null, current);
+    }
+
+    private static long postCount(State state, String author) {
+        long count = state.base().postsByAuthor().getOrDefault(keyOf(author), 0L)
+                + state.current().count(author);
+        if (state.previous() != null) {
+            count += state.previous().count(author);
+        }
+        return count;
+    }
+
+    private static String keyOf(String author) {
+        return author == null ? NO_AUTHOR : author;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.new_back_end.service;
+
+import com.example.new_back_end.dto.ResponseDTO;
+import com.example.new_back_end.repository.ReactivePostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게시글 논블로킹 조회
+ * - DB 응답을 기다리는 동안 요청 스레드를 점유하지 않음 (서블릿 스레드는 즉시 반환되고 결과는 비동기로 전송)
+ * - 응답 형식과 조회수 처리는 블로킹 경로(PostService)와 동일
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactivePostService {
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final ViewCountService viewCountService;
+    private final PostService postService;
+
+    // 목록 최대 건수 (블로킹 레거시 목록과 같은 제한), 0 이하이면 제한 없음
+    @Value("${post.list.legacy-max-size:1000}")
+    private int listMaxSize;
+
+    // 게시글 조회(단일), 없으면 빈 Mono
+    public Mono<ResponseDTO> read(Long id) {
+        return reactivePostRepository.findById(id)
+                .map(post -> {
+                    // 조회수는 메모리 카운터만 증가 (DB 반영은 ViewCountService 의 flush 스레드가 처리하므로 이벤트 루프를 막지 않음)
+                    viewCountService.increment(id);
+                    ResponseDTO dto = postService.toDTO(post);
+                    dto.setViewCount(post.getViewCount() + (int) viewCountService.pendingCount(id));
+                    return dto;
+                });
+    }
+
+    // 게시글 조회(전체) - 최신순으로 limit(최대 listMaxSize) 건까지 스트리밍
+    // 행은 클라이언트가 받아가는 속도에 맞춰 DB 에서 읽으므로 건수와 관계없이 메모리 사용량이 일정
+    public Flux<ResponseDTO> readAll(Integer limit) {
+        int maxSize = listMaxSize > 0 ? listMaxSize : Integer.MAX_VALUE;
+        int resolved = limit == null ? maxSize : Math.min(limit, maxSize);
+        if (resolved < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다.");
+        }
+        return reactivePostRepository.findLatest(resolved)
+                .map(postService::toDTO);
+    }
+}
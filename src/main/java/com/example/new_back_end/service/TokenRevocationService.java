@@ -0,0 +1,99 @@
+package com.example.new_back_end.service;
+
+import com.example.new_back_end.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWT 폐기(로그아웃) 목록
+ * - 폐기된 토큰 ID(jti)는 토큰 만료 시각까지만 정확한 집합(Caffeine)에 보관
+ * - 요청마다의 확인은 Bloom filter 로 먼저 거르고, 필터에 있을 때만 정확한 집합을 조회 (DB 접근 없음)
+ * - Bloom filter 는 삭제가 안 되므로 주기적으로 아직 만료되지 않은 항목만으로 다시 만들어 교체
+ * - 폐기 목록은 인스턴스 메모리에만 있으므로 여러 인스턴스로 운영할 때는 각 인스턴스에 전파해야 함
+ */
+@Service
+public class TokenRevocationService {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 토큰 ID -> 토큰 만료 시각 (epoch millis), 만료 시각에 자동 제거
+    private final Cache<String, Long> revokedTokens;
+
+    // 조회는 잠금 없이, 추가/재생성만 잠금 (재생성 중 추가된 항목이 새 필터에서 빠지지 않도록)
+    private volatile BloomFilter bloomFilter;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public TokenRevocationService(@Value("${security.revocation.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String key, Long expiresAt, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 폐기
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각 (epoch millis), 이후에는 토큰 자체가 만료되므로 목록에서 제거
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            revokedTokens.put(tokenId, expiresAt);
+            bloomFilter.put(tokenId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 폐기 여부 확인 (대부분의 요청은 Bloom filter 에서 바로 false)
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokens.getIfPresent(tokenId) != null;
+    }
+
+    // 만료된 항목을 뺀 새 Bloom filter 로 교체 (오탐률이 누적되어 올라가지 않도록)
+    @Scheduled(fixedDelayString = "${security.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            revokedTokens.cleanUp();
+            long size = revokedTokens.estimatedSize();
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, size * 2), falsePositiveRate);
+            revokedTokens.asMap().keySet().forEach(next::put);
+            bloomFilter = next;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -7,9 +7,12 @@ import com.example.new_back_end.dto.SignUpResponseDTO;
 import com.example.new_back_end.entity.User;
 import com.example.new_back_end.repository.UserRepository;
 import com.example.new_back_end.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
 import lombok.AllArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -18,21 +21,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
-    public SignUpResponseDTO signUp(SignUpRequestDTO signUpRequestDTO) {
-        // 1. 중복 체크
-        if( userRepository.existsByUsername(signUpRequestDTO.getUsername())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자 명입니다.");
-        }
+    private static final String DUPLICATE_USERNAME_MESSAGE = "이미 존재하는 사용자 명입니다.";
+    private static final String DUPLICATE_EMAIL_MESSAGE = "이미 존재하는 이메일 입니다.";
 
-        if(userRepository.existsByEmail(signUpRequestDTO.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일 입니다.");
-        }
+    // 회원가입 - 비밀번호 해시(해시 스레드 풀 대기 포함) 동안 트랜잭션/DB 커넥션을 잡고 있지 않도록
+    // 메서드 트랜잭션 없이 실행하고, INSERT 만 리포지토리 트랜잭션에서 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SignUpResponseDTO signUp(SignUpRequestDTO signUpRequestDTO) {
+        // 1. 중복 체크는 별도 조회 없이 INSERT 시 유니크 제약 조건으로 처리 (아래 4번)
 
-        // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(signUpRequestDTO.getPassword());
+        // 2. 비밀번호 암호화 (전용 해시 스레드 풀에서 수행)
+        String encodedPassword = passwordHashingService.encode(signUpRequestDTO.getPassword());
 
         // 3. User Entity 생성
         User user = new User();
@@ -41,8 +44,18 @@ public class UserService {
         user.setPassword(encodedPassword);
         user.setRole(User.Role.USER);
 
-        // 4. 데이터베이스에 저장
-        User savedUser = userRepository.save(user);
+        // 4. 데이터베이스에 저장 (INSERT 한 번, 동시 가입 시에도 DB 제약 조건이 중복을 막음)
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 중복이 아닌 위반(NOT NULL, 길이 등)은 그대로 전파
+            String message = duplicateMessage(e);
+            if (message == null) {
+                throw e;
+            }
+            throw new IllegalArgumentException(message);
+        }
 
         SignUpResponseDTO response = new SignUpResponseDTO();
         response.setId(savedUser.getId());
@@ -53,18 +66,22 @@ public class UserService {
         return response;
     }
     // 로그인 메서드
+    // 사용자 조회는 리포지토리의 읽기 전용 트랜잭션(레플리카 라우팅 시 레플리카)으로 끝내고,
+    // 비밀번호 검증(BCrypt) 동안에는 DB 커넥션을 잡고 있지 않도록 트랜잭션을 새로 시작하지 않음
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public LoginResponseDTO login(LoginRequestDTO loginRequestDTO) {
         // 1. 사용자 존재 여부 확인
         User user = userRepository.findByUsername(loginRequestDTO.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자명입니다."));
 
-        // 2. 비밀번호 검증
-        if (!passwordEncoder.matches(loginRequestDTO.getPassword(), user.getPassword())) {
+        // 2. 비밀번호 검증 (전용 해시 스레드 풀에서 수행)
+        if (!passwordHashingService.matches(loginRequestDTO.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
         // 3. JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername());
+        String role = user.getRole() != null ? user.getRole().name() : JwtUtil.DEFAULT_ROLE;
+        String token = jwtUtil.generateToken(user.getUsername(), role);
 
         // 4. 응답 DTO 생성
         LoginResponseDTO response = new LoginResponseDTO();
@@ -75,4 +92,50 @@ public class UserService {
         return response;
     }
 
+    // 로그아웃 - 토큰을 만료 시각까지 폐기 목록에 등록 (DB 접근 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("토큰이 없습니다.");
+        }
+        JwtUtil.VerifiedToken verified;
+        try {
+            verified = jwtUtil.verify(token);
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+        if (verified.tokenId() == null) {
+            throw new IllegalArgumentException("폐기할 수 없는 토큰입니다. 다시 로그인해 주세요.");
+        }
+        tokenRevocationService.revoke(verified.tokenId(), verified.expiresAt());
+    }
+
+    // 유니크 제약 조건 위반 예외를 기존 중복 메시지로 변환 (사용자명/이메일 중복이 아니면 null)
+    private String duplicateMessage(DataIntegrityViolationException e) {
+        // 1. 제약 조건 이름으로 판단
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraintName = violation.getConstraintName().toLowerCase();
+                if (constraintName.contains(User.UK_EMAIL)) {
+                    return DUPLICATE_EMAIL_MESSAGE;
+                }
+                if (constraintName.contains(User.UK_USERNAME)) {
+                    return DUPLICATE_USERNAME_MESSAGE;
+                }
+            }
+            cause = cause.getCause();
+        }
+
+        // 2. 이름이 다른 기존 제약 조건(ddl-auto 로 생성된 경우)은 DB 오류 메시지의 컬럼명으로 판단
+        //    예) PostgreSQL: Key (email)=(a@b.com) already exists.
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        if (detail.contains("(email)")) {
+            return DUPLICATE_EMAIL_MESSAGE;
+        }
+        if (detail.contains("(username)")) {
+            return DUPLICATE_USERNAME_MESSAGE;
+        }
+        return null;
+    }
 }
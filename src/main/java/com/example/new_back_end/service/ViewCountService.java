@@ -0,0 +1,247 @@
+package com.example.new_back_end.service;
+
+import jakarta.annotation.PreDestroy;
+import com.example.new_back_end.cache.PostCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * - 조회 시에는 게시글별 LongAdder(스트라이프 카운터)만 증가시켜 DB 행 잠금 경합을 없앰
+ * - 주기적으로 누적된 증가분을 모아 한 번의 JDBC 배치 UPDATE 로 post 테이블에 반영
+ * - 대기 중인 게시글 수가 상한에 도달하면 새 게시글의 조회는 받지 않고(버린 건수는 flush 시 경고 로그) 전용 flush 스레드에
+ *   flush 를 요청하여 메모리 사용량을 확실히 제한 (요청은 CAP_FLUSH_MIN_INTERVAL 에 한 번까지)
+ *   (increment 는 호출 스레드에서 DB 에 접근하지 않으므로 R2DBC 이벤트 루프에서도 호출 가능)
+ * - flush 시 카운터를 맵에서 제거하여 맵에는 아직 반영되지 않은 게시글만 남김
+ * - 배치 UPDATE 가 일부만 실패하면 문장별 결과(BatchUpdateException.getUpdateCounts)로 실패한 행만 다시 누적
+ * - 애플리케이션 종료 시 남은 증가분을 flush
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    // 삭제 표시된 게시글에는 반영하지 않음 (갱신된 행 수가 0 이면 통계에도 더하지 않음)
+    // 상한 도달로 인한 flush 요청의 최소 간격 (DB 장애로 flush 가 계속 실패할 때 요청이 몰리지 않도록 함)
+    private static final Duration CAP_FLUSH_MIN_INTERVAL = Duration.ofSeconds(1);
+
+    private static final String FLUSH_SQL = "update post set view_count = view_count + ? where id = ? and deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostCache postCache;
+    private final PostStatisticsService postStatisticsService;
+
+    // 게시글 ID -> 아직 DB 에 반영되지 않은 조회수 증가분
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 맵에서 꺼내 배치 UPDATE 중인 증가분 (반영/재누적이 끝날 때까지 pendingTotal 에 포함)
+    private final LongAdder inFlight = new LongAdder();
+
+    // flush 는 한 번에 하나만 수행
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 상한 초과 시 flush 를 수행하는 전용 스레드, 요청은 한 번에 하나만 대기
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    // 상한 도달로 인한 다음 flush 요청 가능 시각 (System.nanoTime)
+    private volatile long nextCapFlushAt = System.nanoTime();
+
+    // 상한 도달로 받지 못한 조회 수 (다음 flush 에서 로그로 남기고 초기화)
+    private final LongAdder rejected = new LongAdder();
+
+    // 메모리에 유지할 최대 게시글 수 (도달하면 새 게시글의 조회는 받지 않고 즉시 flush 요청)
+    @Value("${post.view.max-pending-posts:10000}")
+    private int maxPendingPosts;
+
+    // 배치 UPDATE 한 번에 보낼 최대 행 수
+    @Value("${post.view.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    // 조회수 1 증가 (DB 접근 없음, 호출 스레드를 막지 않음)
+    public void increment(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            if (pending.size() >= maxPendingPosts) {
+                rejected.increment();
+                if (System.nanoTime() - nextCapFlushAt >= 0) {
+                    requestFlush();
+                }
+                return;
+            }
+            adder = pending.computeIfAbsent(postId, key -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수 증가분 (근사값)
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 아직 DB 에 반영되지 않은 전체 조회수 증가분 (근사값, 통계용)
+    public long pendingTotal() {
+        long total = inFlight.sum();
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    // 삭제된 게시글의 대기 중인 증가분 버림 (커밋 후 호출)
+    public void discard(Long postId) {
+        pending.remove(postId);
+    }
+
+    // flush 를 멈춘 상태로 실행 (통계 보정 쿼리 중 DB 의 조회수와 대기 중인 증가분이 바뀌지 않도록 함)
+    public void whileFlushPaused(Runnable action) {
+        flushLock.lock();
+        try {
+            action.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 주기적으로 누적된 증가분을 DB 에 반영
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    // flush 스레드에 flush 요청 (이미 요청되어 있으면 무시)
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } finally {
+                        flushRequested.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 flushOnShutdown 이 남은 증가분을 반영
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void doFlush() {
+        nextCapFlushAt = System.nanoTime() + CAP_FLUSH_MIN_INTERVAL.toNanos();
+        long rejectedViews = rejected.sumThenReset();
+        if (rejectedViews > 0) {
+            log.warn("대기 중인 게시글 수 상한({}) 도달로 조회수 {}건을 반영하지 못했습니다.", maxPendingPosts, rejectedViews);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 1. 카운터를 맵에서 제거한 뒤 증가분을 읽음 (이후 조회는 새 카운터에 누적되어 다음 flush 에 반영)
+        //    증가분이 0 인 카운터도 제거되므로 맵에는 아직 반영되지 않은 게시글만 남음
+        //    (제거 직전에 카운터를 잡은 조회가 읽은 뒤에 증가시키면 그 1건은 빠질 수 있음)
+        List<long[]> deltas = new ArrayList<>(pending.size());
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            if (!pending.remove(postId, adder)) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                inFlight.add(delta);
+                deltas.add(new long[]{postId, delta});
+            }
+        }
+
+        // 2. ID 순으로 정렬하여 동시 UPDATE 간 교착 가능성을 줄임
+        deltas.sort(Comparator.comparingLong(entry -> entry[0]));
+
+        // 3. flushBatchSize 단위로 배치 UPDATE, 실패한 행만 다시 누적해 두고 다음 flush 에서 재시도
+        for (int from = 0; from < deltas.size(); from += flushBatchSize) {
+            List<long[]> chunk = deltas.subList(from, Math.min(from + flushBatchSize, deltas.size()));
+            long startedAt = System.nanoTime();
+            int[] counts;
+            try {
+                counts = executeBatch(chunk);
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+                counts = new int[chunk.size()];
+                Arrays.fill(counts, Statement.EXECUTE_FAILED);
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                long[] entry = chunk.get(i);
+                if (counts[i] == Statement.EXECUTE_FAILED) {
+                    pending.computeIfAbsent(entry[0], key -> new LongAdder()).add(entry[1]);
+                } else if (counts[i] != 0) {
+                    postCache.viewsFlushed(entry[0], entry[1], startedAt);
+                    postStatisticsService.viewsFlushed(entry[1]);
+                }
+                inFlight.add(-entry[1]);
+            }
+        }
+    }
+
+    // 배치 UPDATE 실행 후 문장별 결과 반환 (일부 실패 시 실패했거나 실행되지 않은 문장은 EXECUTE_FAILED)
+    // JdbcTemplate.batchUpdate 는 BatchUpdateException 을 변환하면서 문장별 결과를 잃을 수 있으므로 직접 실행
+    private int[] executeBatch(List<long[]> chunk) {
+        return jdbcTemplate.execute((ConnectionCallback<int[]>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(FLUSH_SQL)) {
+                for (long[] entry : chunk) {
+                    statement.setLong(1, entry[1]);
+                    statement.setLong(2, entry[0]);
+                    statement.addBatch();
+                }
+                try {
+                    return statement.executeBatch();
+                } catch (BatchUpdateException e) {
+                    int[] reported = e.getUpdateCounts();
+                    int[] counts = new int[chunk.size()];
+                    Arrays.fill(counts, Statement.EXECUTE_FAILED);
+                    System.arraycopy(reported, 0, counts, 0, Math.min(reported.length, counts.length));
+                    log.warn("조회수 일부 반영 실패, 실패한 행만 다음 주기에 재시도합니다: {}", e.getMessage());
+                    return counts;
+                }
+            }
+        });
+    }
+}
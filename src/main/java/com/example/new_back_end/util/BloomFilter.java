@@ -0,0 +1,88 @@
+package com.example.new_back_end.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 문자열 Bloom filter
+ * - mightContain 이 false 이면 확실히 없음, true 이면 오탐(false positive) 가능성이 있으므로 정확한 집합으로 다시 확인
+ * - 비트 배열은 AtomicLongArray 로 두어 여러 스레드가 잠금 없이 조회/추가 가능
+ * - 삭제는 지원하지 않으므로 오래된 항목은 새 필터를 만들어 교체
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 예상 항목 수만큼 넣었을 때의 목표 오탐률 (0~1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions 는 1 이상, falsePositiveRate 는 0~1 사이여야 합니다.");
+        }
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 최적 해시 수 k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = index(hash1, hash2, i);
+            int word = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = index(hash1, hash2, i);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 이중 해싱 (Kirsch-Mitzenmacher): i 번째 해시 = hash1 + i * hash2
+    // hash2 는 홀수로 맞춰 (hash2 | 1) 0 이 되지 않도록 함 (0 이면 모든 해시가 같은 비트를 가리킴)
+    private long index(int hash1, int hash2, int i) {
+        int combined = hash1 + i * hash2;
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return combined % bitSize;
+    }
+
+    // FNV-1a 64비트 + MurmurHash3 fmix64 로 비트를 고르게 섞음
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
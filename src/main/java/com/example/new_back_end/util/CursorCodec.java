@@ -0,0 +1,49 @@
+package com.example.new_back_end.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서 인코더/디코더
+ * - 커서는 마지막으로 내려준 게시글의 (createdDate, id) 쌍
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출하여 내부 구조를 숨김
+ */
+public final class CursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 커서 위치 (생성일시, ID)
+     */
+    public record Cursor(LocalDateTime createdDate, Long id) {
+    }
+
+    // (createdDate, id) -> 불투명 커서 문자열
+    public static String encode(LocalDateTime createdDate, Long id) {
+        String raw = createdDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 커서 문자열 -> (createdDate, id), 형식이 잘못되면 IllegalArgumentException
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx <= 0) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+            LocalDateTime createdDate = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            return new Cursor(createdDate, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 의 하위 타입
+            throw new IllegalArgumentException("잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -1,63 +1,133 @@
 package com.example.new_back_end.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    // 역할 클레임 이름 / 역할 클레임이 없는 기존 토큰의 기본 역할
+    public static final String ROLE_CLAIM = "role";
+    public static final String DEFAULT_ROLE = "USER";
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final Long expiration;
 
-    // JWT 토큰 생성
+    // 서명/검증용 키와 파서는 시작 시 한 번만 생성하여 재사용 (JwtParser 는 thread-safe)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰 캐시 (키: 토큰의 SHA-256 다이제스트, 토큰 만료 시각에 함께 만료)
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    /**
+     * 서명 검증을 통과한 토큰 정보
+     * @param username 토큰 주체 (사용자명)
+     * @param role 사용자 역할 (USER, ADMIN)
+     * @param tokenId 토큰 ID (jti, 로그아웃 시 폐기 대상), 기존 토큰에는 없을 수 있음
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public record VerifiedToken(String username, String role, String tokenId, long expiresAt) {
+    }
+
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.verified-cache.maximum-size:100000}") long verifiedCacheSize) {
+        this.expiration = expiration;
+        // 기존 signWith(HS256, String) 과 동일하게 secret 을 Base64 로 디코딩하여 키 생성 (기존 발급 토큰과 호환)
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // JWT 토큰 생성 (기본 역할)
     public String generateToken(String username) {
+        return generateToken(username, DEFAULT_ROLE);
+    }
+
+    // JWT 토큰 생성 - 역할을 클레임에 담아 요청마다 사용자 조회 없이 권한 확인
+    public String generateToken(String username, String role) {
         return Jwts.builder()
                 .setSubject(username)  // 토큰 주체 (사용자명)
+                .setId(UUID.randomUUID().toString())  // 토큰 ID (로그아웃 시 폐기용)
+                .claim(ROLE_CLAIM, role)  // 사용자 역할
                 .setIssuedAt(new Date())  // 토큰 발급 시간
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))  // 토큰 만료 시간
-                .signWith(SignatureAlgorithm.HS256, secretKey)  // 서명 알고리즘과 비밀키
+                .signWith(signingKey, SignatureAlgorithm.HS256)  // 미리 생성한 비밀키로 서명
                 .compact();  // 토큰 생성
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 결과를 캐시하는 메서드
+     * - 같은 토큰의 재요청은 다이제스트 계산 + 캐시 조회만 수행
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws JwtException 서명이 올바르지 않거나 만료된 토큰인 경우
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = verifiedTokens.get(digest(token), key -> parse(token));
+        // 캐시 만료 타이머의 오차를 고려해 만료 시각을 한 번 더 확인
+        if (verified.expiresAt() <= System.currentTimeMillis()) {
+            throw new JwtException("만료된 토큰입니다.");
+        }
+        return verified;
+    }
+
     // JWT 토큰에서 사용자명 추출
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)  // 비밀키로 검증
-                .parseClaimsJws(token)     // 토큰 파싱
-                .getBody();                // Claims 추출
-        return claims.getSubject();        // 사용자명 반환
+        return verify(token).username();
     }
 
     // JWT 토큰 유효성 검증
     public boolean validateToken(String token, String username) {
         try {
-            String tokenUsername = getUsernameFromToken(token);
-            return tokenUsername.equals(username) && !isTokenExpired(token);
+            return verify(token).username().equals(username);
         } catch (Exception e) {
             return false;  // 토큰이 유효하지 않음
         }
     }
 
-    // 토큰 만료 여부 확인
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return expiration.before(new Date());  // 현재 시간보다 이전이면 만료
-    }
-
     /**
      * HTTP 요청에서 JWT 토큰을 추출하는 메서드
      * Authorization 헤더에서 "Bearer " 접두사를 제거하고 토큰만 추출
@@ -83,10 +153,28 @@ public class JwtUtil {
      * @return 토큰 만료 시간 (Date 객체)
      */
     public Date getExpirationFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return new Date(verify(token).expiresAt());
+    }
+
+    // 서명 검증 + 클레임 파싱 (만료된 토큰은 ExpiredJwtException)
+    private VerifiedToken parse(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() == null) {
+            throw new JwtException("만료 시간이 없는 토큰입니다.");
+        }
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return new VerifiedToken(claims.getSubject(), role != null ? role : DEFAULT_ROLE,
+                claims.getId(), claims.getExpiration().getTime());
+    }
+
+    // 캐시 키로 사용할 토큰의 SHA-256 다이제스트
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 필수 지원 알고리즘
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,43 @@
+package com.example.new_back_end.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA: Generic Cell Rate Algorithm)
+ * - 남은 토큰 수 대신 "다음 요청이 허용되는 이론적 시각(TAT)" 하나만 AtomicLong 으로 저장하고 CAS 로 갱신
+ * - 초당 refillPerSecond 개씩 채워지고 최대 capacity 개까지 몰아서(burst) 사용 가능한 토큰 버킷과 동일하게 동작
+ * - 별도의 충전 스레드나 타이머가 필요 없음
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;   // 토큰 1개가 채워지는 간격
+    private final long toleranceNanos;          // 버킷 용량만큼의 시간 (burst 허용 범위)
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상, refillPerSecond 는 0 보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.toleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @param nowNanos 현재 시각 (System.nanoTime())
+     * @return 허용되면 0, 거부되면 다음 토큰이 채워질 때까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
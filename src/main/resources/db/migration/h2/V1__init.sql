@@ -0,0 +1,26 @@
+-- 기본 스키마 (H2, 테스트/로컬 성능 측정용 - PostgreSQL 스키마와 같은 구조)
+
+create sequence if not exists post_seq start with 1 increment by 50;
+
+create table if not exists post (
+    id           bigint       not null primary key,
+    title        varchar(255),
+    content      varchar(255),
+    author       varchar(255),
+    created_date timestamp(6),
+    updated_date timestamp(6),
+    view_count   integer      default 0 not null,
+    version      bigint       default 0 not null,
+    deleted      boolean      default false not null,
+    deleted_at   timestamp(6)
+);
+
+create table if not exists users (
+    id       bigint generated by default as identity primary key,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    email    varchar(255) not null,
+    role     varchar(255) check (role in ('USER', 'ADMIN')),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
@@ -0,0 +1,7 @@
+-- 게시글 조회 경로별 인덱스 (H2 는 부분 인덱스를 지원하지 않으므로 전체 인덱스)
+
+create index if not exists idx_post_created_date_id on post (created_date desc, id desc);
+
+create index if not exists idx_post_author_created_date_id on post (author, created_date desc, id desc);
+
+create index if not exists idx_post_deleted_at on post (deleted, deleted_at);
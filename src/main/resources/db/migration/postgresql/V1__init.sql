@@ -0,0 +1,39 @@
+-- 기본 스키마 (기존 ddl-auto=update 로 만들어진 DB 에서도 그대로 실행되도록 if not exists 사용)
+
+create sequence if not exists post_seq start with 1 increment by 50;
+-- 기존 DB 에 다른 증가폭으로 만들어진 시퀀스가 있어도 pooled 최적화기(allocationSize = 50)와 맞춤
+alter sequence post_seq increment by 50;
+
+create table if not exists post (
+    id           bigint       not null primary key,
+    title        varchar(255),
+    content      varchar(255),
+    author       varchar(255),
+    created_date timestamp(6),
+    updated_date timestamp(6),
+    view_count   integer      not null default 0,
+    version      bigint       not null default 0,
+    deleted      boolean      not null default false,
+    deleted_at   timestamp(6)
+);
+
+create table if not exists users (
+    id       bigint generated by default as identity primary key,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    email    varchar(255) not null,
+    role     varchar(255) check (role in ('USER', 'ADMIN')),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+-- 기존 DB 에는 post 테이블이 이미 있어 위 create table 이 무시되므로, 이후에 추가된 컬럼을 따로 추가
+-- (baseline-version=0 이므로 기존 DB 에서도 V1 부터 실행됨)
+alter table post add column if not exists view_count integer not null default 0;
+alter table post add column if not exists version bigint not null default 0;
+alter table post add column if not exists deleted boolean not null default false;
+alter table post add column if not exists deleted_at timestamp(6);
+
+-- IDENTITY 로 생성된 기존 ID 와 겹치지 않도록 post_seq 를 max(id) 이후로 맞춤
+-- (pooled 최적화기는 nextval 값 V 에 대해 (V - 50, V] 범위를 사용)
+select setval('post_seq', greatest((select coalesce(max(id), 1) from post), (select last_value from post_seq)));
@@ -0,0 +1,21 @@
+-- 게시글 조회 경로별 인덱스
+-- 모든 엔티티 조회에 deleted = false 조건이 붙으므로 (@SQLRestriction) 삭제되지 않은 행만 담는 부분 인덱스 사용
+-- 운영 중인 테이블을 잠그지 않도록 concurrently 로 생성
+-- concurrently 는 트랜잭션 안에서 실행할 수 없으므로 트랜잭션 밖에서 실행 (V2__post_indexes.sql.conf)
+-- 이 파일에는 트랜잭션이 필요한 DDL 을 섞지 않음
+
+-- 최신순 목록/키셋 페이지: order by created_date desc, id desc
+-- view_count 는 조회수 flush 로 자주 갱신되므로 INCLUDE 로 덮지 않음 (HOT 업데이트 유지)
+create index concurrently if not exists idx_post_created_date_id
+    on post (created_date desc, id desc)
+    where deleted = false;
+
+-- 작성자별 목록: where author = ? order by created_date desc, id desc
+create index concurrently if not exists idx_post_author_created_date_id
+    on post (author, created_date desc, id desc)
+    where deleted = false;
+
+-- 삭제 표시된 게시글 물리 삭제 (PostPurger): where deleted = true and deleted_at < ?
+create index concurrently if not exists idx_post_deleted_at
+    on post (deleted_at)
+    where deleted = true;
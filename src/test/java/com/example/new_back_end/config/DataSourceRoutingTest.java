@@ -0,0 +1,119 @@
+package com.example.new_back_end.config;
+
+import com.example.new_back_end.dto.RequestDTO;
+import com.example.new_back_end.dto.ResponseDTO;
+import com.example.new_back_end.repository.PostRepository;
+import com.example.new_back_end.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 - H2 인메모리 DB 두 개를 주 DB / 레플리카로 사용
+ * - 레플리카에는 복제를 흉내 내기 위해 주 DB 스키마를 복사하고, 레플리카에만 있는 행으로 어느 DB 에서 읽었는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.r2dbc.url=r2dbc:h2:mem:///routing-primary",
+        "post.purge.enabled=false",
+        "datasource.routing.enabled=true",
+        // 첫 번째 레플리카는 접속할 수 없는 주소 (장애 조치 확인용)
+        "datasource.routing.replicas[0].url=jdbc:h2:tcp://localhost:1/unreachable",
+        "datasource.routing.replicas[0].connection-timeout=250ms",
+        "datasource.routing.replicas[1].url=jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+class DataSourceRoutingTest {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("drop all objects");
+        List<String> ddl = jdbcTemplate.queryForList("script nodata", String.class);
+        for (String statement : ddl) {
+            if (!statement.startsWith("--") && !statement.startsWith("CREATE USER")) {
+                replica.execute(statement);
+            }
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        replica.update("insert into post (id, title, content, author, created_date, updated_date, view_count, version, deleted) " +
+                "values (?, ?, ?, ?, ?, ?, 0, 0, false)", 900_000L, "레플리카", "레플리카에만 있는 행", "replica",
+                LocalDateTime.now(), LocalDateTime.now());
+
+        // 장애 레플리카는 건너뛰고 정상 레플리카에서 읽음
+        ResponseDTO response = postService.read(900_000L);
+        assertThat(response).isNotNull();
+        assertThat(response.getTitle()).isEqualTo("레플리카");
+
+        // 읽기 전용이 아닌 트랜잭션은 주 DB (레플리카에만 있는 행은 보이지 않음)
+        Boolean existsOnPrimary = transactionTemplate.execute(status -> postRepository.findById(900_000L).isPresent());
+        assertThat(existsOnPrimary).isFalse();
+    }
+
+    @Test
+    void readsAfterWriteStayOnPrimary() {
+        RequestDTO requestDTO = new RequestDTO();
+        requestDTO.setTitle("주 DB");
+        requestDTO.setContent("방금 쓴 게시글");
+        requestDTO.setAuthor("primary");
+
+        Long id;
+        try (PrimaryPin.Scope ignored = PrimaryPin.open()) {
+            id = postService.create(requestDTO).getId();
+
+            // 같은 요청(범위)에서는 주 DB 에 고정되어 방금 쓴 게시글이 보임
+            assertThat(PrimaryPin.isPinned()).isTrue();
+            assertThat(postService.read(id)).isNotNull();
+        }
+
+        // 범위가 닫힌 뒤(다음 요청)에는 레플리카에서 읽음 (복제되지 않았으므로 보이지 않음)
+        assertThat(PrimaryPin.isPinned()).isFalse();
+        assertThat(postRepository.findUpdatedDateById(id)).isEmpty();
+    }
+
+    @Test
+    void writesOutsideRequestScopeDoNotPinThread() {
+        // 스케줄러/백그라운드 스레드처럼 범위 없이 주 DB 를 사용해도 스레드가 고정되지 않음
+        jdbcTemplate.update("update post set view_count = view_count where id = -1");
+        assertThat(PrimaryPin.isPinned()).isFalse();
+
+        // 범위 안에서 다시 연 범위를 닫아도 바깥 범위의 고정은 유지
+        try (PrimaryPin.Scope ignored = PrimaryPin.open()) {
+            try (PrimaryPin.Scope nested = PrimaryPin.open()) {
+                PrimaryPin.pin();
+            }
+            assertThat(PrimaryPin.isPinned()).isTrue();
+        }
+        assertThat(PrimaryPin.isPinned()).isFalse();
+    }
+}
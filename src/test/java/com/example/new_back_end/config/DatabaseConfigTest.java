@@ -0,0 +1,61 @@
+package com.example.new_back_end.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC(JPA, Flyway, JdbcTemplate)와 R2DBC 가 함께 있을 때 컨텍스트가 두 접속 방식을 모두 구성하는지 확인
+ * - 같은 H2 인메모리 DB 를 사용하여 JDBC 로 넣은 행을 R2DBC 로 읽음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:database-config;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.r2dbc.url=r2dbc:h2:mem:///database-config?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "post.purge.enabled=false"
+})
+class DatabaseConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void jdbcAndR2dbcAreBothConfigured() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        assertThat(connectionFactory).isNotNull();
+
+        // Flyway 마이그레이션이 JDBC DataSource 로 적용되었는지 (post 테이블 존재)
+        jdbcTemplate.update("insert into post (id, title, content, author, created_date, updated_date, view_count, version, deleted) " +
+                "values (?, ?, ?, ?, ?, ?, 0, 0, false)", 910_000L, "설정", "JDBC 로 넣은 행", "config",
+                LocalDateTime.now(), LocalDateTime.now());
+
+        String title = databaseClient.sql("select title from post where id = :id")
+                .bind("id", 910_000L)
+                .map(row -> row.get("title", String.class))
+                .one()
+                .block();
+        assertThat(title).isEqualTo("설정");
+    }
+}
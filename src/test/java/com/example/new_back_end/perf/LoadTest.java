@@ -0,0 +1,385 @@
+package com.example.new_back_end.perf;
+
+import com.example.new_back_end.dto.RequestDTO;
+import com.example.new_back_end.entity.User;
+import com.example.new_back_end.repository.UserRepository;
+import com.example.new_back_end.service.PostService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종단 간 부하 테스트
+ * - H2 인메모리 DB 로 애플리케이션 전체(보안 필터 체인 포함)를 띄우고 사용자/게시글을 미리 생성한 뒤
+ *   로그인, 단건 조회, 목록 조회, 생성, 수정을 가중치에 따라 섞어 호출
+ * - 엔드포인트별 처리량과 p50/p99/p999 지연 시간을 출력하고 JSON 으로 저장
+ * - perf.baseline 에 이전 결과 파일을 지정하면 p99 변화량을 함께 출력
+ *
+ * 실행 예)
+ *   ./gradlew perfTest --tests '*LoadTest' -Dperf.users=100 -Dperf.posts=50000 -Dperf.threads=64 -Dperf.duration-seconds=60
+ *   ./gradlew perfTest --tests '*LoadTest' -Dperf.baseline=build/reports/loadtest/baseline.json
+ *   플랫폼 스레드 / 가상 스레드 비교: ./gradlew virtualThreadComparison (같은 JDK 21 에서 두 모드를 차례로 실행,
+ *   build/reports/loadtest/platform.json, virtual.json 에 저장하고 virtual.json 에 platform 대비 변화량 포함)
+ *   (perf.spring.* 시스템 속성은 spring.* 설정으로, perf.extra-profiles 는 perf 프로필에 더해 활성화할 프로필로 전달됨)
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTest.PerfProfilesResolver.class)
+class LoadTest {
+
+    private static final String PASSWORD = "password1234";
+
+    // 히스토그램 기록 단위: 마이크로초, 최대 60초
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // perf 프로필 + perf.extra-profiles (쉼표 구분, 예: virtual)
+    static class PerfProfilesResolver implements ActiveProfilesResolver {
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            List<String> profiles = new ArrayList<>(List.of("perf"));
+            for (String profile : System.getProperty("perf.extra-profiles", "").split(",")) {
+                if (!profile.isBlank()) {
+                    profiles.add(profile.trim());
+                }
+            }
+            return profiles.toArray(new String[0]);
+        }
+    }
+
+    @DynamicPropertySource
+    static void springOverrides(DynamicPropertyRegistry registry) {
+        String prefix = "perf.";
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(prefix + "spring.")) {
+                registry.add(name.substring(prefix.length()), () -> System.getProperty(name));
+            }
+        }
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        int users = Integer.getInteger("perf.users", 50);
+        int posts = Integer.getInteger("perf.posts", 10_000);
+        int threads = Integer.getInteger("perf.threads", 32);
+        int warmupSeconds = Integer.getInteger("perf.warmup-seconds", 5);
+        int durationSeconds = Integer.getInteger("perf.duration-seconds", 30);
+
+        // 1. 데이터 준비
+        List<String> usernames = seedUsers(users);
+        List<Long> postIds = seedPosts(posts);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < Math.min(users, threads); i++) {
+            tokens.add(login(usernames.get(i)));
+        }
+
+        // 2. 워밍업 후 측정
+        Workload workload = new Workload(usernames, postIds, tokens);
+        run(workload, threads, warmupSeconds, new LinkedHashMap<>());
+
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation.endpoint, new EndpointStats());
+        }
+        long elapsedNanos = run(workload, threads, durationSeconds, stats);
+
+        // 3. 결과 출력/저장 (기준 결과가 있으면 변화량도 함께 저장)
+        Map<String, Object> report = report(stats, elapsedNanos, threads, users, posts);
+        String baseline = System.getProperty("perf.baseline");
+        if (baseline != null) {
+            report.put("baseline", baseline);
+            report.put("comparison", compareWithBaseline(new File(baseline), report));
+        }
+        File output = new File(System.getProperty("perf.output", "build/reports/loadtest/results.json"));
+        output.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output, report);
+        System.out.println("[loadtest] 결과 저장: " + output.getAbsolutePath());
+
+        long requests = stats.values().stream().mapToLong(s -> s.histogram.getTotalCount()).sum();
+        assertThat(requests).isPositive();
+    }
+
+    // 워크로드 한 구간 실행, 경과 시간(ns) 반환
+    private long run(Workload workload, int threads, int seconds, Map<String, EndpointStats> stats) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        for (int t = 0; t < threads; t++) {
+            String token = workload.tokens().get(t % workload.tokens().size());
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = Operation.pick(ThreadLocalRandom.current().nextInt(Operation.TOTAL_WEIGHT));
+                    long opStart = System.nanoTime();
+                    int status;
+                    try {
+                        status = execute(operation, workload, token);
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    long micros = (System.nanoTime() - opStart) / 1_000;
+                    EndpointStats endpointStats = stats.get(operation.endpoint);
+                    if (endpointStats != null) {
+                        endpointStats.record(micros, status);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private int execute(Operation operation, Workload workload, String token) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request = switch (operation) {
+            case LOGIN -> post("/api/auth/login", null,
+                    "{\"username\":\"" + workload.usernames().get(random.nextInt(workload.usernames().size()))
+                            + "\",\"password\":\"" + PASSWORD + "\"}");
+            case READ -> get("/api/posts/" + workload.randomPostId(), token);
+            case LIST -> get("/api/posts/page?limit=20", token);
+            case CREATE -> post("/api/posts", token,
+                    "{\"title\":\"부하 테스트\",\"content\":\"부하 테스트 본문\",\"author\":\"loadtest\"}");
+            case UPDATE -> HttpRequest.newBuilder(uri("/api/posts/" + workload.randomPostId()))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"title\":\"수정된 제목\",\"content\":\"수정된 본문\",\"author\":\"loadtest\"}"))
+                    .build();
+        };
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private List<String> seedUsers(int count) {
+        // BCrypt 는 한 번만 계산하여 모든 사용자에게 재사용
+        String encoded = passwordEncoder.encode(PASSWORD);
+        List<String> usernames = new ArrayList<>(count);
+        List<User> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUsername("load" + i);
+            user.setEmail("load" + i + "@example.com");
+            user.setPassword(encoded);
+            user.setRole(User.Role.USER);
+            batch.add(user);
+            usernames.add(user.getUsername());
+        }
+        userRepository.saveAll(batch);
+        return usernames;
+    }
+
+    private List<Long> seedPosts(int count) {
+        List<RequestDTO> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RequestDTO requestDTO = new RequestDTO();
+            requestDTO.setTitle("게시글 " + i);
+            requestDTO.setContent("부하 테스트용 게시글 본문 " + i);
+            requestDTO.setAuthor("author" + (i % 100));
+            requests.add(requestDTO);
+        }
+        return postService.createAll(requests).getIds();
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                post("/api/auth/login", null, "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private Map<String, Object> report(Map<String, EndpointStats> stats, long elapsedNanos,
+                                       int threads, int users, int posts) {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("[loadtest] threads=%d users=%d posts=%d duration=%.1fs%n", threads, users, posts, seconds);
+        System.out.printf("%-28s %10s %10s %8s %10s %10s %10s%n", "endpoint", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)");
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram histogram = endpointStats.histogram;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", histogram.getTotalCount());
+            row.put("throughput", histogram.getTotalCount() / seconds);
+            row.put("errors", endpointStats.errors.get());
+            row.put("p50Millis", histogram.getValueAtPercentile(50) / 1000.0);
+            row.put("p99Millis", histogram.getValueAtPercentile(99) / 1000.0);
+            row.put("p999Millis", histogram.getValueAtPercentile(99.9) / 1000.0);
+            endpoints.put(endpoint, row);
+            System.out.printf("%-28s %10d %10.1f %8d %10.2f %10.2f %10.2f%n", endpoint,
+                    histogram.getTotalCount(), row.get("throughput"), endpointStats.errors.get(),
+                    row.get("p50Millis"), row.get("p99Millis"), row.get("p999Millis"));
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("virtualThreads", Boolean.parseBoolean(environment.getProperty("spring.threads.virtual.enabled")));
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("threads", threads);
+        report.put("users", users);
+        report.put("posts", posts);
+        report.put("durationSeconds", seconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    // 기준 결과 대비 엔드포인트별 p99/처리량 변화 (출력 후 반환)
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> compareWithBaseline(File baselineFile, Map<String, Object> report) throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselineFile).get("endpoints");
+        Map<String, Object> endpoints = (Map<String, Object>) report.get("endpoints");
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        System.out.println("[loadtest] 기준 결과 대비 p99 변화: " + baselineFile);
+        endpoints.forEach((endpoint, row) -> {
+            JsonNode before = baseline.get(endpoint);
+            if (before == null) {
+                return;
+            }
+            double beforeP99 = before.get("p99Millis").asDouble();
+            double afterP99 = (double) ((Map<String, Object>) row).get("p99Millis");
+            double beforeThroughput = before.get("throughput").asDouble();
+            double afterThroughput = (double) ((Map<String, Object>) row).get("throughput");
+            System.out.printf("%-28s p99 %.2f -> %.2f ms (%+.1f%%), req/s %.1f -> %.1f (%+.1f%%)%n", endpoint,
+                    beforeP99, afterP99, percentChange(beforeP99, afterP99),
+                    beforeThroughput, afterThroughput, percentChange(beforeThroughput, afterThroughput));
+
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("p99MillisBefore", beforeP99);
+            change.put("p99MillisAfter", afterP99);
+            change.put("p99ChangePercent", percentChange(beforeP99, afterP99));
+            change.put("throughputBefore", beforeThroughput);
+            change.put("throughputAfter", afterThroughput);
+            change.put("throughputChangePercent", percentChange(beforeThroughput, afterThroughput));
+            comparison.put(endpoint, change);
+        });
+        return comparison;
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    // 작업 종류와 가중치 (perf.weight.<name> 으로 조정 가능)
+    private enum Operation {
+        LOGIN("POST /api/auth/login", 5),
+        READ("GET /api/posts/{id}", 60),
+        LIST("GET /api/posts/page", 20),
+        CREATE("POST /api/posts", 10),
+        UPDATE("PUT /api/posts/{id}", 5);
+
+        static final int TOTAL_WEIGHT;
+
+        static {
+            int total = 0;
+            for (Operation operation : values()) {
+                total += operation.weight;
+            }
+            TOTAL_WEIGHT = total;
+        }
+
+        final String endpoint;
+        final int weight;
+
+        Operation(String endpoint, int defaultWeight) {
+            this.endpoint = endpoint;
+            this.weight = Integer.getInteger("perf.weight." + name().toLowerCase(), defaultWeight);
+        }
+
+        static Operation pick(int value) {
+            for (Operation operation : values()) {
+                value -= operation.weight;
+                if (value < 0) {
+                    return operation;
+                }
+            }
+            return READ;
+        }
+    }
+
+    private record Workload(List<String> usernames, List<Long> postIds, List<String> tokens) {
+        long randomPostId() {
+            return postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+        }
+    }
+
+    private static final class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long micros, int status) {
+            histogram.recordValue(Math.min(Math.max(micros, 1), MAX_LATENCY_MICROS));
+            if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
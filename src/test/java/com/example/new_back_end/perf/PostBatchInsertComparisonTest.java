@@ -0,0 +1,80 @@
+package com.example.new_back_end.perf;
+
+import com.example.new_back_end.dto.BatchCreateResponseDTO;
+import com.example.new_back_end.dto.RequestDTO;
+import com.example.new_back_end.repository.PostRepository;
+import com.example.new_back_end.service.PostService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 INSERT(POST /api/posts 반복) 와 일괄 INSERT(POST /api/posts/batch) 처리량 비교
+ * - 실행: ./gradlew perfTest -Dperf.posts=20000
+ */
+@Tag("perf")
+@SpringBootTest
+@ActiveProfiles("perf")
+class PostBatchInsertComparisonTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void compareSingleAndBatchInsertThroughput() {
+        int count = Integer.getInteger("perf.posts", 10_000);
+        List<RequestDTO> requests = requests(count);
+
+        // 워밍업
+        postService.createAll(requests(1_000));
+        for (RequestDTO requestDTO : requests(100)) {
+            postService.create(requestDTO);
+        }
+
+        // perf 프로필의 H2 DB 는 다른 perf 테스트와 공유되므로 건수는 전략별 증가분으로 확인
+        long beforeSingle = postRepository.count();
+        long singleStart = System.nanoTime();
+        for (RequestDTO requestDTO : requests) {
+            postService.create(requestDTO);
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+
+        assertThat(postRepository.count() - beforeSingle).isEqualTo(count);
+
+        long beforeBatch = postRepository.count();
+        long batchStart = System.nanoTime();
+        BatchCreateResponseDTO response = postService.createAll(requests);
+        long batchNanos = System.nanoTime() - batchStart;
+
+        assertThat(response.getCount()).isEqualTo(count);
+        assertThat(postRepository.count() - beforeBatch).isEqualTo(count);
+
+        System.out.printf("[insert] posts=%d single=%.1f rows/s (%d ms) batch=%.1f rows/s (%d ms) speedup=%.1fx%n",
+                count,
+                count / (singleNanos / 1e9), singleNanos / 1_000_000,
+                count / (batchNanos / 1e9), batchNanos / 1_000_000,
+                (double) singleNanos / batchNanos);
+    }
+
+    private static List<RequestDTO> requests(int count) {
+        List<RequestDTO> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RequestDTO requestDTO = new RequestDTO();
+            requestDTO.setTitle("제목 " + i);
+            requestDTO.setContent("내용 " + i);
+            requestDTO.setAuthor("author" + (i % 100));
+            requests.add(requestDTO);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.new_back_end.perf;
+
+import com.example.new_back_end.dto.RequestDTO;
+import com.example.new_back_end.entity.User;
+import com.example.new_back_end.repository.UserRepository;
+import com.example.new_back_end.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서블릿(JPA) 조회 경로와 논블로킹(R2DBC) 조회 경로 비교
+ * - 동시 요청 수(perf.concurrency)별로 같은 요청 수를 보내고 처리량, p50/p99, 최대 스레드 수, 최대 힙 사용량을 출력
+ * - 단건 조회: GET /api/posts/{id} vs GET /api/reactive/posts/{id}
+ * - 목록 조회: GET /api/posts (한 번에 직렬화) vs GET /api/reactive/posts (NDJSON 스트리밍)
+ *
+ * 실행 예)
+ *   ./gradlew perfTest --tests '*ReactiveReadComparisonTest' -Dperf.concurrency=100,1000,5000 -Dperf.requests=50000
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+class ReactiveReadComparisonTest {
+
+    private static final String PASSWORD = "password1234";
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 높은 동시 연결 수에서 클라이언트 쪽 스레드가 병목이 되지 않도록 비동기 전송 사용
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void compareServletAndReactiveReads() throws Exception {
+        int posts = Integer.getInteger("perf.posts", 5_000);
+        int requests = Integer.getInteger("perf.requests", 20_000);
+        int listRequests = Integer.getInteger("perf.list-requests", 500);
+        int listLimit = Integer.getInteger("perf.list-limit", 1_000);
+        String[] concurrencyLevels = System.getProperty("perf.concurrency", "50,500,2000").split(",");
+
+        List<Long> postIds = seedPosts(posts);
+        String token = login(seedUser());
+
+        // 워밍업 (JIT, 커넥션 풀)
+        run("warmup", requests / 10, 50, () -> get("/api/posts/" + randomId(postIds), token));
+        run("warmup", requests / 10, 50, () -> get("/api/reactive/posts/" + randomId(postIds), token));
+
+        System.out.printf("%-34s %8s %10s %8s %10s %10s %10s %12s%n",
+                "scenario", "conc", "req/s", "errors", "p50(ms)", "p99(ms)", "threads", "heap(MB)");
+        for (String level : concurrencyLevels) {
+            int concurrency = Integer.parseInt(level.trim());
+            report(run("servlet GET /api/posts/{id}", requests, concurrency,
+                    () -> get("/api/posts/" + randomId(postIds), token)));
+            report(run("reactive GET /api/reactive/posts/{id}", requests, concurrency,
+                    () -> get("/api/reactive/posts/" + randomId(postIds), token)));
+            report(run("servlet GET /api/posts", listRequests, concurrency,
+                    () -> get("/api/posts", token)));
+            report(run("reactive GET /api/reactive/posts", listRequests, concurrency,
+                    () -> HttpRequest.newBuilder(uri("/api/reactive/posts?limit=" + listLimit))
+                            .header("Authorization", "Bearer " + token)
+                            .header("Accept", "application/x-ndjson")
+                            .GET()
+                            .build()));
+        }
+    }
+
+    // 동시 요청 수를 concurrency 로 제한하며 total 건을 보내고 결과 반환
+    private Result run(String scenario, int total, int concurrency, Supplier<HttpRequest> request) throws InterruptedException {
+        Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong peakHeap = new AtomicLong();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        System.gc();
+        threadMXBean.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> futures = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            inFlight.acquire();
+            long requestStart = System.nanoTime();
+            futures.add(httpClient.sendAsync(request.get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long micros = (System.nanoTime() - requestStart) / 1_000;
+                        histogram.recordValue(Math.min(Math.max(micros, 1), MAX_LATENCY_MICROS));
+                        if (error != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        peakHeap.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new Result(scenario, concurrency, histogram, errors.get(), elapsedNanos,
+                threadMXBean.getPeakThreadCount(), peakHeap.get());
+    }
+
+    private void report(Result result) {
+        Histogram histogram = result.histogram();
+        System.out.printf("%-34s %8d %10.1f %8d %10.2f %10.2f %10d %12.1f%n",
+                result.scenario(), result.concurrency(),
+                histogram.getTotalCount() / (result.elapsedNanos() / 1e9), result.errors(),
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                result.peakThreads(), result.peakHeapBytes() / (1024.0 * 1024.0));
+        assertThat(histogram.getTotalCount()).isPositive();
+    }
+
+    private List<Long> seedPosts(int count) {
+        List<RequestDTO> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RequestDTO requestDTO = new RequestDTO();
+            requestDTO.setTitle("게시글 " + i);
+            requestDTO.setContent("비교 테스트용 게시글 본문 " + i);
+            requestDTO.setAuthor("author" + (i % 100));
+            requests.add(requestDTO);
+        }
+        return postService.createAll(requests).getIds();
+    }
+
+    private String seedUser() {
+        User user = new User();
+        user.setUsername("reactive");
+        user.setEmail("reactive@example.com");
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user.setRole(User.Role.USER);
+        userRepository.save(user);
+        return user.getUsername();
+    }
+
+    private String login(String username) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private static long randomId(List<Long> postIds) {
+        return postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Result(String scenario, int concurrency, Histogram histogram, long errors,
+                          long elapsedNanos, int peakThreads, long peakHeapBytes) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.new_back_end.perf;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 실행 모드별 시작 시간 비교 (프로세스 시작 ~ 첫 번째 성공 응답까지)
+ * - default: prod 프로필, AOT/CDS 미사용
+ * - aot: AOT 처리된 컨텍스트 초기화 코드 사용 (-Dspring.aot.enabled=true)
+ * - aot-cds: AOT + 학습 실행으로 만든 CDS 아카이브 (-XX:SharedArchiveFile)
+ * - 모드마다 perf.startup.runs 번 실행하여 최소/중앙값/최대 시간을 출력
+ * - -PstartupOptimized 로 만든 build/startup 산출물이 필요하며, 없으면 건너뜀
+ *
+ * 실행 예) (앱이 접속할 DB 는 SPRING_DATASOURCE_URL 등 환경 변수 또는 perf.startup.args 로 지정)
+ *   ./gradlew perfTest --tests '*StartupTimeTest' -PstartupOptimized -Dperf.startup.runs=5
+ */
+@Tag("perf")
+class StartupTimeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    @Test
+    void reportTimeToFirstSuccessfulRequest() throws Exception {
+        String dir = System.getProperty("perf.startup.dir");
+        String jar = System.getProperty("perf.startup.jar");
+        assumeTrue(dir != null && jar != null, "-PstartupOptimized 로 실행해야 합니다.");
+
+        File workingDir = new File(dir);
+        int runs = Integer.getInteger("perf.startup.runs", 3);
+        String path = System.getProperty("perf.startup.path", "/actuator/health");
+        List<String> extraArgs = splitArgs(System.getProperty("perf.startup.args", ""));
+        String[] modes = System.getProperty("perf.startup.modes", "default,aot,aot-cds").split(",");
+
+        System.out.printf("%-10s %6s %12s %12s %12s%n", "mode", "runs", "min(ms)", "median(ms)", "max(ms)");
+        for (String mode : modes) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = measure(workingDir, jar, mode.trim(), path, extraArgs);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-10s %6d %12d %12d %12d%n",
+                    mode.trim(), runs, millis[0], millis[runs / 2], millis[runs - 1]);
+        }
+    }
+
+    // 애플리케이션을 새 프로세스로 띄우고 path 가 200 을 돌려줄 때까지 걸린 시간(ms) 반환
+    private long measure(File workingDir, String jar, String mode, String path, List<String> extraArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgsOf(mode));
+        command.add("-Dspring.profiles.active=prod");
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+        command.addAll(extraArgs);
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(workingDir)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(workingDir, "startup-" + mode + ".log"));
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            URI uri = URI.create("http://localhost:" + port + path);
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(process.isAlive())
+                        .as("%s 모드 애플리케이션이 시작 중 종료됨 (startup-%s.log 참고)", mode, mode)
+                        .isTrue();
+                if (isOk(uri)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError(mode + " 모드 애플리케이션이 " + STARTUP_TIMEOUT + " 안에 응답하지 않음");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> jvmArgsOf(String mode) {
+        return switch (mode) {
+            case "default" -> List.of();
+            case "aot" -> List.of("-Dspring.aot.enabled=true");
+            case "aot-cds" -> List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa");
+            default -> throw new IllegalArgumentException("알 수 없는 모드: " + mode);
+        };
+    }
+
+    private boolean isOk(URI uri) throws InterruptedException {
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            // 아직 포트가 열리지 않았거나 응답 전
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> splitArgs(String args) {
+        return args.isBlank() ? List.of() : Arrays.asList(args.trim().split("\\s+"));
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.new_back_end.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 쿼리 실행 계획 검사 (H2, Flyway 마이그레이션으로 만든 스키마)
+ * - PostRepository 의 목록 쿼리(목록 ETag 용 (id, 수정 시각) 조회 포함)를 실제로 실행하여 Hibernate 가 만든 SQL 과 바인딩 값을 가로챈 뒤 그대로 EXPLAIN
+ * - 커서 조건(created_date <=)이 인덱스 범위 조건으로 쓰이는지, 정렬을 인덱스 순서로 처리하는지(index sorted) 확인
+ * - 쿼리나 인덱스(db/migration/h2/V2__post_indexes.sql)를 바꿀 때 함께 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+class PostQueryPlanTest {
+
+    private static final LocalDateTime CURSOR_DATE = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final long CURSOR_ID = 720L;
+    private static final PageRequest PAGE = PageRequest.of(0, 21);
+
+    /**
+     * 실행된 SQL 과 바인딩 값 (파라미터 순서대로)
+     */
+    record CapturedStatement(String sql, List<Object> parameters) {
+    }
+
+    // 테스트 스레드에서 실행된 조회 SQL
+    private static final List<CapturedStatement> captured = new ArrayList<>();
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        // DataSource 를 감싸 PreparedStatement 의 SQL 과 set* 으로 바인딩된 값을 기록
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return capturing(super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && args[0] instanceof String sql) {
+                            return capturing((PreparedStatement) result, sql);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            TreeMap<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("executeQuery")) {
+                            captured.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("delete from post");
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 1; i <= 2_000; i++) {
+            Timestamp createdDate = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[]{(long) i, "게시글 " + i, "author" + (i % 50), createdDate, createdDate});
+        }
+        jdbcTemplate.batchUpdate("insert into post (id, title, author, created_date, updated_date) values (?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void latestFirstPageUsesCreatedDateIndex() {
+        assertIndexSorted(planOf(() -> postRepository.findFirstPage(PAGE)), "idx_post_created_date_id");
+        assertIndexSorted(planOf(() -> postRepository.findSummaryFirstPage(PAGE)), "idx_post_created_date_id");
+        assertIndexSorted(planOf(() -> postRepository.findStampFirstPage(PAGE)), "idx_post_created_date_id");
+    }
+
+    @Test
+    void latestPageAfterCursorUsesCreatedDateIndex() {
+        String plan = planOf(() -> postRepository.findPageAfter(CURSOR_DATE, CURSOR_ID, PAGE));
+        assertIndexSorted(plan, "idx_post_created_date_id");
+        assertThat(plan).containsPattern("idx_post_created_date_id: created_date <=");
+
+        String summaryPlan = planOf(() -> postRepository.findSummaryPageAfter(CURSOR_DATE, CURSOR_ID, PAGE));
+        assertIndexSorted(summaryPlan, "idx_post_created_date_id");
+        assertThat(summaryPlan).containsPattern("idx_post_created_date_id: created_date <=");
+
+        String stampPlan = planOf(() -> postRepository.findStampPageAfter(CURSOR_DATE, CURSOR_ID, PAGE));
+        assertIndexSorted(stampPlan, "idx_post_created_date_id");
+        assertThat(stampPlan).containsPattern("idx_post_created_date_id: created_date <=");
+    }
+
+    @Test
+    void authorFirstPageUsesAuthorIndex() {
+        String plan = planOf(() -> postRepository.findByAuthorFirstPage("author7", PAGE));
+        assertIndexSorted(plan, "idx_post_author_created_date_id");
+        assertThat(plan).containsPattern("idx_post_author_created_date_id: author =");
+
+        String summaryPlan = planOf(() -> postRepository.findSummaryByAuthorFirstPage("author7", PAGE));
+        assertIndexSorted(summaryPlan, "idx_post_author_created_date_id");
+        assertThat(summaryPlan).containsPattern("idx_post_author_created_date_id: author =");
+
+        String stampPlan = planOf(() -> postRepository.findStampByAuthorFirstPage("author7", PAGE));
+        assertIndexSorted(stampPlan, "idx_post_author_created_date_id");
+        assertThat(stampPlan).containsPattern("idx_post_author_created_date_id: author =");
+    }
+
+    @Test
+    void authorPageAfterCursorUsesAuthorIndex() {
+        String plan = planOf(() -> postRepository.findByAuthorPageAfter("author7", CURSOR_DATE, CURSOR_ID, PAGE));
+        assertIndexSorted(plan, "idx_post_author_created_date_id");
+        assertThat(plan).containsPattern("idx_post_author_created_date_id: author = \\S+\\s+and created_date <=");
+
+        String summaryPlan = planOf(() ->
+                postRepository.findSummaryByAuthorPageAfter("author7", CURSOR_DATE, CURSOR_ID, PAGE));
+        assertIndexSorted(summaryPlan, "idx_post_author_created_date_id");
+        assertThat(summaryPlan).containsPattern("idx_post_author_created_date_id: author = \\S+\\s+and created_date <=");
+
+        String stampPlan = planOf(() ->
+                postRepository.findStampByAuthorPageAfter("author7", CURSOR_DATE, CURSOR_ID, PAGE));
+        assertIndexSorted(stampPlan, "idx_post_author_created_date_id");
+        assertThat(stampPlan).containsPattern("idx_post_author_created_date_id: author = \\S+\\s+and created_date <=");
+    }
+
+    // 리포지토리 메서드를 실행하여 Hibernate 가 보낸 조회 SQL 을 같은 바인딩 값으로 EXPLAIN
+    private String planOf(Runnable query) {
+        captured.clear();
+        query.run();
+        assertThat(captured).as("실행된 조회 SQL").hasSize(1);
+        CapturedStatement statement = captured.get(0);
+        captured.clear();
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + statement.sql(), String.class,
+                statement.parameters().toArray())).toLowerCase();
+        // 식별자 따옴표와 줄바꿈 차이를 없애 비교
+        return plan.replace("\"", "").replaceAll("\\s+", " ");
+    }
+
+    private void assertIndexSorted(String plan, String indexName) {
+        assertThat(plan)
+                .as("실행 계획: %s", plan)
+                .contains(indexName)
+                .contains("index sorted")
+                .doesNotContain("tablescan");
+    }
+}